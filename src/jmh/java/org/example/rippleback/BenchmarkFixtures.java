@@ -0,0 +1,44 @@
+package org.example.rippleback;
+
+import org.example.rippleback.features.feed.domain.Feed;
+import org.example.rippleback.features.media.domain.Media;
+import org.example.rippleback.features.user.domain.User;
+
+import java.time.Instant;
+
+/**
+ * 벤치마크 공용 엔티티 (DB 없이 builder 로 조립)
+ */
+public final class BenchmarkFixtures {
+
+    public static final String CDN_BASE_URL = "https://cdn.ripple.dev";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user(long id) {
+        Media profile = Media.newProfileImage(id, "images/profile/" + id + "/avatar.jpg", "image/jpeg", 320, 320, 24_000L);
+        return User.builder()
+                .id(id)
+                .username("user_" + id)
+                .email("user" + id + "@ripple.dev")
+                .password("{bcrypt}placeholder")
+                .profileMediaId(id)
+                .profileMedia(profile)
+                .build();
+    }
+
+    public static Feed feed(long id, User author) {
+        Media thumbnail = Media.newFeedImage(author.getId(), "images/feed/" + id + "/0001.jpg", "image/jpeg", 1080, 1350, 180_000L);
+        return Feed.builder()
+                .id(id)
+                .authorId(author.getId())
+                .author(author)
+                .content("벤치마크용 피드 본문 #" + id)
+                .tagsNorm(new String[]{"spring", "java", "ripple"})
+                .thumbnailMediaId(id)
+                .thumbnailMedia(thumbnail)
+                .createdAt(Instant.parse("2025-01-01T00:00:00Z").plusSeconds(id))
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.rippleback.core.security.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Clock;
+
+/**
+ * 요청마다 타는 토큰 발급/검증 경로 (HS256)
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-0123456789";
+
+    private JwtTokenProvider provider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(
+                new JwtProperties(SECRET, 15 * 60 * 1000L, 14 * 24 * 60 * 60 * 1000L, 30),
+                Clock.systemUTC());
+        provider.init();
+        accessToken = provider.createAccessToken(42L, 3L);
+    }
+
+    @Benchmark
+    public JwtTokenProvider.TokenClaims decode() {
+        return provider.decode(accessToken);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return provider.createAccessToken(42L, 3L);
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return provider.createRefreshToken(42L, 3L, "device-1");
+    }
+}
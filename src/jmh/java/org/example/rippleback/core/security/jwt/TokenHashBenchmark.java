@@ -0,0 +1,31 @@
+package org.example.rippleback.core.security.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Clock;
+
+/**
+ * 토큰 캐시 키/refresh token 저장에 쓰는 SHA-256 (입력은 실제 access token 길이)
+ */
+@State(Scope.Benchmark)
+public class TokenHashBenchmark {
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider provider = new JwtTokenProvider(
+                new JwtProperties("benchmark-secret-benchmark-secret-0123456789", 900_000L, 1_209_600_000L, 30),
+                Clock.systemUTC());
+        provider.init();
+        token = provider.createAccessToken(42L, 3L);
+    }
+
+    @Benchmark
+    public String sha256() {
+        return TokenHash.sha256(token);
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.rippleback.features.feed.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.rippleback.BenchmarkFixtures;
+import org.example.rippleback.features.feed.api.dto.FeedPageDto;
+import org.example.rippleback.features.feed.api.dto.FeedResponseDto;
+import org.example.rippleback.features.feed.app.FeedMapper;
+import org.example.rippleback.features.media.app.MediaUrlResolver;
+import org.example.rippleback.features.user.app.UserMapper;
+import org.example.rippleback.infra.counter.CounterBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 피드 목록 응답 직렬화 (Boot 기본 설정과 같은 ObjectMapper)
+ */
+@State(Scope.Benchmark)
+public class FeedPageSerializationBenchmark {
+
+    @Param({"10", "50"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private FeedPageDto page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        MediaUrlResolver resolver = new MediaUrlResolver(BenchmarkFixtures.CDN_BASE_URL);
+        FeedMapper mapper = new FeedMapper(new UserMapper(resolver), new CounterBuffer());
+        List<FeedResponseDto> feeds = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            feeds.add(mapper.toResponse(BenchmarkFixtures.feed(id, BenchmarkFixtures.user(id % 7 + 1)), resolver, id % 2 == 0));
+        }
+        page = new FeedPageDto(feeds, (long) size, true);
+    }
+
+    @Benchmark
+    public byte[] writeFeedPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
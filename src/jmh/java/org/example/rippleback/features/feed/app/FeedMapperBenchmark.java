@@ -0,0 +1,40 @@
+package org.example.rippleback.features.feed.app;
+
+import org.example.rippleback.BenchmarkFixtures;
+import org.example.rippleback.features.feed.api.dto.FeedResponseDto;
+import org.example.rippleback.features.feed.domain.Feed;
+import org.example.rippleback.features.media.app.MediaUrlResolver;
+import org.example.rippleback.features.user.app.UserMapper;
+import org.example.rippleback.infra.counter.CounterBuffer;
+import org.example.rippleback.infra.counter.CounterType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 피드 카드 1건 매핑 (썸네일 URL + 작성자 요약 + 카운터 overlay)
+ */
+@State(Scope.Benchmark)
+public class FeedMapperBenchmark {
+
+    private FeedMapper mapper;
+    private MediaUrlResolver resolver;
+    private Feed feed;
+
+    @Setup
+    public void setUp() {
+        resolver = new MediaUrlResolver(BenchmarkFixtures.CDN_BASE_URL);
+        CounterBuffer counterBuffer = new CounterBuffer();
+        // 아직 flush 되지 않은 증감분이 있는 상태
+        counterBuffer.increment(CounterType.FEED_LIKE, 1024L);
+        counterBuffer.increment(CounterType.FEED_VIEW, 1024L);
+        mapper = new FeedMapper(new UserMapper(resolver), counterBuffer);
+        feed = BenchmarkFixtures.feed(1024L, BenchmarkFixtures.user(42L));
+    }
+
+    @Benchmark
+    public FeedResponseDto toResponse() {
+        return mapper.toResponse(feed, resolver, false);
+    }
+}
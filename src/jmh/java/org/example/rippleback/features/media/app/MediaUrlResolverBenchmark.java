@@ -0,0 +1,70 @@
+package org.example.rippleback.features.media.app;
+
+import org.example.rippleback.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 피드/프로필 카드마다 호출되는 object key -> CDN URL 변환
+ * - legacy* 는 이전 구현 (split + UriComponentsBuilder) 과의 비교용
+ * - 할당량은 gc profiler 의 gc.alloc.rate.norm (B/op) 참고
+ */
+@State(Scope.Benchmark)
+public class MediaUrlResolverBenchmark {
+
+    private static final int FEED_PAGE_SIZE = 20;
+
+    @Param({
+            "images/profile/42/avatar.jpg",
+            "videos/feed/1024/hls/index.m3u8",
+            "images/feed/1024/사진 01.jpg"
+    })
+    public String key;
+
+    private MediaUrlResolver resolver;
+    // 피드 한 페이지: 썸네일 + 작성자 프로필
+    private String[] pageKeys;
+
+    @Setup
+    public void setUp() {
+        resolver = new MediaUrlResolver(BenchmarkFixtures.CDN_BASE_URL);
+        pageKeys = new String[FEED_PAGE_SIZE * 2];
+        for (int i = 0; i < FEED_PAGE_SIZE; i++) {
+            pageKeys[i * 2] = "images/feed/" + (1000 + i) + "/0001.jpg";
+            pageKeys[i * 2 + 1] = "images/profile/" + (i % 7 + 1) + "/avatar.jpg";
+        }
+    }
+
+    @Benchmark
+    public String toPublicUrl() {
+        return resolver.toPublicUrl(key);
+    }
+
+    @Benchmark
+    public String legacyToPublicUrl() {
+        return legacy(key);
+    }
+
+    @Benchmark
+    public void feedPage(Blackhole bh) {
+        for (String k : pageKeys) bh.consume(resolver.toPublicUrl(k));
+    }
+
+    @Benchmark
+    public void legacyFeedPage(Blackhole bh) {
+        for (String k : pageKeys) bh.consume(legacy(k));
+    }
+
+    private static String legacy(String key) {
+        return UriComponentsBuilder.fromHttpUrl(BenchmarkFixtures.CDN_BASE_URL)
+                .path("/")
+                .pathSegment(key.split("/"))
+                .build()
+                .toUriString();
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.rippleback.features.user.app;
+
+import org.example.rippleback.BenchmarkFixtures;
+import org.example.rippleback.features.media.app.MediaUrlResolver;
+import org.example.rippleback.features.user.api.dto.UserProfileSummaryResponseDto;
+import org.example.rippleback.features.user.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class UserMapperBenchmark {
+
+    private UserMapper mapper;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        mapper = new UserMapper(new MediaUrlResolver(BenchmarkFixtures.CDN_BASE_URL));
+        user = BenchmarkFixtures.user(42L);
+    }
+
+    @Benchmark
+    public UserProfileSummaryResponseDto toSummary() {
+        return mapper.toSummary(user, true);
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.rippleback.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부하 발생용 HTTP 클라이언트
+ * - endpoint 는 Spring 의 uri 패턴 그대로 (예: "GET /api/feeds/{feedId}/fullView") 써서
+ *   서버 메트릭(http.server.requests.queries)과 같은 이름으로 집계
+ * - measuring 이 true 일 때만 샘플을 기록 (워밍업 구간 제외)
+ */
+final class ApiClient {
+
+    record Response(int status, JsonNode body) {
+
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private volatile boolean measuring;
+
+    ApiClient(HttpClient http, ObjectMapper objectMapper, String baseUrl) {
+        this.http = http;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl.replaceAll("/+$", "");
+    }
+
+    void startMeasuring() {
+        measuring = true;
+    }
+
+    Map<String, EndpointStats> stats() {
+        return stats;
+    }
+
+    Response get(String endpoint, String path, String token) {
+        return send(endpoint, HttpRequest.newBuilder(uri(path)).GET(), token);
+    }
+
+    Response post(String endpoint, String path, Object body, String token) {
+        return send(endpoint, HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(body == null ? HttpRequest.BodyPublishers.noBody() : json(body)), token);
+    }
+
+    Response delete(String endpoint, String path, String token) {
+        return send(endpoint, HttpRequest.newBuilder(uri(path)).DELETE(), token);
+    }
+
+    private Response send(String endpoint, HttpRequest.Builder builder, String token) {
+        builder.timeout(TIMEOUT).header("Accept", "application/json");
+        if (token != null) builder.header("Authorization", "Bearer " + token);
+
+        long started = System.nanoTime();
+        int status = -1;
+        JsonNode body = null;
+        try {
+            HttpResponse<byte[]> response = http.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            status = response.statusCode();
+            byte[] bytes = response.body();
+            if (bytes != null && bytes.length > 0) body = objectMapper.readTree(bytes);
+        } catch (IOException e) {
+            // 연결 실패/타임아웃은 status -1 로 서버 오류에 포함
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long elapsed = System.nanoTime() - started;
+
+        if (measuring) stats.computeIfAbsent(endpoint, k -> new EndpointStats()).record(elapsed, status);
+        return new Response(status, body);
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.rippleback.loadtest;
+
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+/**
+ * COPY ... FROM STDIN (text 형식) 으로 행을 흘려 넣는 writer
+ * - 1MB 단위로 버퍼를 비워서 수천만 행도 메모리에 쌓지 않음
+ */
+final class CopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_BYTES = 1 << 20;
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 4096);
+    private long rows;
+
+    CopyWriter(CopyManager copyManager, String table, String columns) throws SQLException {
+        this.copyIn = copyManager.copyIn("COPY " + table + " (" + columns + ") FROM STDIN");
+    }
+
+    void row(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) buffer.append('\t');
+            append(values[i]);
+        }
+        buffer.append('\n');
+        rows++;
+        if (buffer.length() >= FLUSH_BYTES) flush();
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    private void append(Object value) {
+        if (value == null) {
+            buffer.append("\\N");
+            return;
+        }
+        String s = value.toString();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '\\' -> buffer.append("\\\\");
+                case '\t' -> buffer.append("\\t");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                default -> buffer.append(c);
+            }
+        }
+    }
+
+    private void flush() throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        flush();
+        copyIn.endCopy();
+    }
+}
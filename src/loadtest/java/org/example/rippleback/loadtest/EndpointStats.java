@@ -0,0 +1,56 @@
+package org.example.rippleback.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 엔드포인트 하나의 응답 시간(ns) 샘플과 상태 코드 집계
+ * - 부하 테스트 한 번(수 분) 분량이라 샘플을 전부 보관하고 끝에서 정렬해 정확한 백분위를 구함
+ */
+final class EndpointStats {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private long[] samples = new long[4096];
+    private int size;
+    private long clientErrors;
+    private long serverErrors;
+
+    void record(long nanos, int status) {
+        lock.lock();
+        try {
+            if (size == samples.length) samples = Arrays.copyOf(samples, size * 2);
+            samples[size++] = nanos;
+            if (status >= 500 || status < 0) {
+                serverErrors++;
+            } else if (status >= 400) {
+                clientErrors++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Snapshot snapshot() {
+        lock.lock();
+        try {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return new Snapshot(sorted, clientErrors, serverErrors);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    record Snapshot(long[] sorted, long clientErrors, long serverErrors) {
+
+        long count() {
+            return sorted.length;
+        }
+
+        double percentileMillis(double p) {
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+        }
+    }
+}
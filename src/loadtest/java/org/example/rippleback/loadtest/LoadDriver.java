@@ -0,0 +1,329 @@
+package org.example.rippleback.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시드 데이터(SeedGenerator) 위에서 시나리오를 돌리는 부하 발생기 (./gradlew loadtest)
+ * - 가상 사용자 1명 = virtual thread 1개, 로그인 후 시나리오 비율(lt.mix)대로 반복
+ * - 워밍업 이후 구간만 집계해서 엔드포인트별 처리량, p50/p95/p99, 4xx/5xx,
+ *   요청당 SQL 수(서버 loadtest 프로필의 http.server.requests.queries)를 출력하고 JSON 으로 저장
+ */
+public final class LoadDriver {
+
+    private static final String LOGIN = "POST /api/auth/login";
+    private static final String HOME = "GET /api/feeds/home";
+    private static final String FULL_VIEW = "GET /api/feeds/{feedId}/fullView";
+    private static final String COMMENTS = "GET /api/feeds/{feedId}/comments";
+    private static final String CREATE_COMMENT = "POST /api/feeds/{feedId}/comments";
+    private static final String LIKE = "POST /api/feeds/{feedId}/likes";
+    private static final String UNLIKE = "DELETE /api/feeds/{feedId}/likes";
+    private static final String USER_SEARCH = "GET /api/users";
+    private static final String TAG_SEARCH = "GET /api/feeds/search/tag";
+    private static final String TAG_FEEDS = "GET /api/feeds/tag/{tagName}";
+    private static final String INBOX = "GET /api/conversations";
+    private static final String MESSAGES = "GET /api/messages/{conversationId}";
+    private static final String SEND_MESSAGE = "POST /api/messages";
+
+    private static final String[] SEARCH_TAGS = {"spring", "java", "travel", "food", "daily", "music"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ApiClient api;
+    private final int users;
+    private final ZipfSampler activeUsers;
+    private final Map<String, Integer> mix;
+    private final int mixTotal;
+
+    private LoadDriver(String baseUrl, int users, Map<String, Integer> mix) {
+        HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.api = new ApiClient(http, objectMapper, baseUrl);
+        this.users = users;
+        // 자주 접속하는 계정이 정해져 있도록 (인기 계정 위주)
+        this.activeUsers = new ZipfSampler(users, 1.05);
+        this.mix = mix;
+        this.mixTotal = mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = LoadTestConfig.string("lt.base-url", "LT_BASE_URL", "http://localhost:8080");
+        int users = LoadTestConfig.integer("lt.users", 1_000_000);
+        int virtualUsers = LoadTestConfig.integer("lt.virtual-users", 200);
+        Duration warmup = LoadTestConfig.duration("lt.warmup", Duration.ofSeconds(15));
+        Duration duration = LoadTestConfig.duration("lt.duration", Duration.ofMinutes(2));
+        String label = LoadTestConfig.string("lt.label", null, "run");
+        Map<String, Integer> mix = parseMix(LoadTestConfig.string("lt.mix", null,
+                "home=35,fullView=20,comments=15,like=10,search=10,messages=10"));
+
+        new LoadDriver(baseUrl, users, mix).run(virtualUsers, warmup, duration, label);
+    }
+
+    private void run(int virtualUsers, Duration warmup, Duration duration, String label) throws Exception {
+        log("virtual users=%d warmup=%s duration=%s mix=%s", virtualUsers, warmup, duration, mix);
+
+        long warmupEnds = System.nanoTime() + warmup.toNanos();
+        long ends = warmupEnds + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(virtualUsers);
+
+        for (int i = 0; i < virtualUsers; i++) {
+            Thread.ofVirtual().name("vu-" + i).start(() -> {
+                try {
+                    virtualUser(ends);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        Thread.sleep(warmup);
+        Map<String, double[]> queriesBefore = queryTotals();
+        api.startMeasuring();
+        long measureStarted = System.nanoTime();
+
+        done.await();
+        double seconds = (System.nanoTime() - measureStarted) / 1e9;
+        Map<String, double[]> queriesAfter = queryTotals();
+
+        report(label, seconds, queriesBefore, queriesAfter);
+    }
+
+    private void virtualUser(long ends) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String token = login(activeUsers.sample(random));
+        if (token == null) return;
+
+        List<Long> feedIds = new ArrayList<>();
+        List<Long> conversationIds = new ArrayList<>();
+        while (System.nanoTime() < ends) {
+            switch (pickScenario(random)) {
+                case "home" -> home(token, feedIds);
+                case "fullView" -> fullView(token, feedIds, random);
+                case "comments" -> comments(token, feedIds, random);
+                case "like" -> like(token, feedIds, random);
+                case "search" -> search(token, random);
+                case "messages" -> messages(token, conversationIds, random);
+                default -> home(token, feedIds);
+            }
+        }
+    }
+
+    private String login(int userId) {
+        Map<String, String> body = Map.of(
+                "username", "lt_u" + userId,
+                "password", SeedGenerator.PASSWORD,
+                "deviceId", "loadtest-" + UUID.randomUUID());
+        ApiClient.Response res = api.post(LOGIN, "/api/auth/login", body, null);
+        if (!res.ok() || res.body() == null) return null;
+        return res.body().path("accessToken").asText(null);
+    }
+
+    private void home(String token, List<Long> feedIds) {
+        ApiClient.Response res = api.get(HOME, "/api/feeds/home?limit=10", token);
+        if (res.body() == null) return;
+        feedIds.clear();
+        for (JsonNode feed : res.body().path("feeds")) feedIds.add(feed.path("id").asLong());
+    }
+
+    private void fullView(String token, List<Long> feedIds, ThreadLocalRandom random) {
+        Long feedId = pick(feedIds, random);
+        if (feedId == null) {
+            home(token, feedIds);
+            return;
+        }
+        api.get(FULL_VIEW, "/api/feeds/" + feedId + "/fullView", token);
+    }
+
+    private void comments(String token, List<Long> feedIds, ThreadLocalRandom random) {
+        Long feedId = pick(feedIds, random);
+        if (feedId == null) {
+            home(token, feedIds);
+            return;
+        }
+        api.get(COMMENTS, "/api/feeds/" + feedId + "/comments?size=10", token);
+        if (random.nextInt(5) == 0) {
+            api.post(CREATE_COMMENT, "/api/feeds/" + feedId + "/comments",
+                    Map.of("content", "loadtest comment " + random.nextInt(1_000_000)), token);
+        }
+    }
+
+    private void like(String token, List<Long> feedIds, ThreadLocalRandom random) {
+        Long feedId = pick(feedIds, random);
+        if (feedId == null) {
+            home(token, feedIds);
+            return;
+        }
+        api.post(LIKE, "/api/feeds/" + feedId + "/likes", null, token);
+        api.delete(UNLIKE, "/api/feeds/" + feedId + "/likes", token);
+    }
+
+    private void search(String token, ThreadLocalRandom random) {
+        String tag = SEARCH_TAGS[random.nextInt(SEARCH_TAGS.length)];
+        switch (random.nextInt(3)) {
+            case 0 -> api.get(USER_SEARCH, "/api/users?size=20&query=" + encode("lt_u" + (1 + random.nextInt(999))), token);
+            case 1 -> api.get(TAG_SEARCH, "/api/feeds/search/tag?limit=10&query=" + encode(tag.substring(0, 2)), token);
+            default -> api.get(TAG_FEEDS, "/api/feeds/tag/" + encode(tag) + "?limit=10", token);
+        }
+    }
+
+    private void messages(String token, List<Long> conversationIds, ThreadLocalRandom random) {
+        if (conversationIds.isEmpty() || random.nextInt(10) == 0) {
+            ApiClient.Response res = api.get(INBOX, "/api/conversations?limit=20", token);
+            if (res.body() == null) return;
+            conversationIds.clear();
+            for (JsonNode c : res.body().path("conversations")) conversationIds.add(c.path("id").asLong());
+        }
+        Long conversationId = pick(conversationIds, random);
+        if (conversationId == null) return;
+
+        api.get(MESSAGES, "/api/messages/" + conversationId + "?limit=30", token);
+        if (random.nextInt(3) == 0) {
+            Map<String, Object> body = Map.of(
+                    "conversationId", conversationId,
+                    "content", "loadtest message " + random.nextInt(1_000_000),
+                    "messageType", "TEXT");
+            api.post(SEND_MESSAGE, "/api/messages", body, token);
+        }
+    }
+
+    private String pickScenario(ThreadLocalRandom random) {
+        int r = random.nextInt(mixTotal);
+        for (Map.Entry<String, Integer> e : mix.entrySet()) {
+            r -= e.getValue();
+            if (r < 0) return e.getKey();
+        }
+        return "home";
+    }
+
+    // endpoint -> {count, total} (서버가 loadtest 프로필이 아니면 401 이라 비어 있음)
+    private Map<String, double[]> queryTotals() {
+        Map<String, double[]> totals = new TreeMap<>();
+
+        ApiClient.Response names = api.get("metrics", "/actuator/metrics/http.server.requests.queries", null);
+        if (!names.ok() || names.body() == null) return totals;
+
+        List<String> methods = tagValues(names.body(), "method");
+        for (String uri : tagValues(names.body(), "uri")) {
+            for (String method : methods) {
+                ApiClient.Response res = api.get("metrics", "/actuator/metrics/http.server.requests.queries?tag="
+                        + encode("uri:" + uri) + "&tag=" + encode("method:" + method), null);
+                if (!res.ok() || res.body() == null) continue;
+                double count = 0;
+                double total = 0;
+                for (JsonNode m : res.body().path("measurements")) {
+                    switch (m.path("statistic").asText()) {
+                        case "COUNT" -> count = m.path("value").asDouble();
+                        case "TOTAL" -> total = m.path("value").asDouble();
+                        default -> {
+                        }
+                    }
+                }
+                if (count > 0) totals.put(method + " " + uri, new double[]{count, total});
+            }
+        }
+        return totals;
+    }
+
+    private static List<String> tagValues(JsonNode metric, String tag) {
+        List<String> values = new ArrayList<>();
+        for (JsonNode t : metric.path("availableTags")) {
+            if (tag.equals(t.path("tag").asText())) t.path("values").forEach(v -> values.add(v.asText()));
+        }
+        return values;
+    }
+
+    private void report(String label, double seconds, Map<String, double[]> before, Map<String, double[]> after)
+            throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("label", label);
+        root.put("startedAt", Instant.now().toString());
+        root.put("measuredSeconds", seconds);
+        ArrayNode endpoints = root.putArray("endpoints");
+
+        log("%n%-40s %9s %9s %9s %9s %9s %9s %7s %7s %9s",
+                "endpoint", "count", "rps", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "4xx", "5xx", "sql/req");
+        long totalCount = 0;
+        for (Map.Entry<String, EndpointStats> e : new TreeMap<>(api.stats()).entrySet()) {
+            if (e.getKey().equals("metrics")) continue;
+            EndpointStats.Snapshot s = e.getValue().snapshot();
+            totalCount += s.count();
+
+            double[] b = before.getOrDefault(e.getKey(), new double[]{0, 0});
+            double[] a = after.get(e.getKey());
+            Double sqlPerRequest = (a == null || a[0] - b[0] <= 0) ? null : (a[1] - b[1]) / (a[0] - b[0]);
+
+            log("%-40s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %7d %7d %9s",
+                    e.getKey(), s.count(), s.count() / seconds,
+                    s.percentileMillis(0.50), s.percentileMillis(0.95), s.percentileMillis(0.99), s.percentileMillis(1.0),
+                    s.clientErrors(), s.serverErrors(),
+                    sqlPerRequest == null ? "-" : String.format("%.1f", sqlPerRequest));
+
+            ObjectNode node = endpoints.addObject();
+            node.put("endpoint", e.getKey());
+            node.put("count", s.count());
+            node.put("rps", s.count() / seconds);
+            node.put("p50Ms", s.percentileMillis(0.50));
+            node.put("p95Ms", s.percentileMillis(0.95));
+            node.put("p99Ms", s.percentileMillis(0.99));
+            node.put("maxMs", s.percentileMillis(1.0));
+            node.put("clientErrors", s.clientErrors());
+            node.put("serverErrors", s.serverErrors());
+            if (sqlPerRequest != null) node.put("sqlPerRequest", sqlPerRequest);
+        }
+        root.put("totalRps", totalCount / seconds);
+        log("%ntotal %.1f req/s over %.0fs", totalCount / seconds, seconds);
+
+        Path dir = Path.of(LoadTestConfig.string("lt.report-dir", null, "build/reports/loadtest"));
+        Files.createDirectories(dir);
+        String stamp = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC).format(Instant.now());
+        Path file = dir.resolve(label + "-" + stamp + ".json");
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), root);
+        log("report written to %s", file.toAbsolutePath());
+    }
+
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split("=");
+            if (kv.length == 2 && Integer.parseInt(kv[1].trim()) > 0) mix.put(kv[0].trim(), Integer.parseInt(kv[1].trim()));
+        }
+        if (mix.isEmpty()) throw new IllegalArgumentException("lt.mix is empty: " + spec);
+        return mix;
+    }
+
+    private static Long pick(List<Long> ids, ThreadLocalRandom random) {
+        return ids.isEmpty() ? null : ids.get(random.nextInt(ids.size()));
+    }
+
+    private static String encode(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8);
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf(format + "%n", args);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.rippleback.loadtest;
+
+import java.time.Duration;
+
+/**
+ * -D 시스템 프로퍼티 > 환경 변수 > 기본값 순으로 설정을 읽는다
+ * (gradle 에서는 -Pseed.users=... / -Plt.duration=... 로 넘기면 됨)
+ */
+final class LoadTestConfig {
+
+    private LoadTestConfig() {
+    }
+
+    static String string(String key, String env, String defaultValue) {
+        String v = System.getProperty(key);
+        if (v == null && env != null) v = System.getenv(env);
+        return (v == null || v.isBlank()) ? defaultValue : v.trim();
+    }
+
+    static int integer(String key, int defaultValue) {
+        return Integer.parseInt(string(key, null, String.valueOf(defaultValue)).replace("_", ""));
+    }
+
+    static double decimal(String key, double defaultValue) {
+        return Double.parseDouble(string(key, null, String.valueOf(defaultValue)));
+    }
+
+    static Duration duration(String key, Duration defaultValue) {
+        return Duration.parse(string(key, null, defaultValue.toString()));
+    }
+}
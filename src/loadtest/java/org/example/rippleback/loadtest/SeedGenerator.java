@@ -0,0 +1,327 @@
+package org.example.rippleback.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 합성 소셜 그래프 생성기 (./gradlew seed)
+ * - 앱을 한 번 띄워 스키마(ddl-auto)를 만든 뒤, users 가 비어 있는 DB 에서만 실행
+ * - 팔로우 대상은 Zipf 분포 (id 가 작을수록 팔로워가 많은 인기 계정), 좋아요/댓글 수도 작성자 인기에 비례
+ * - 모든 계정의 비밀번호는 PASSWORD, username 은 lt_u{id}
+ * - COPY 로 넣은 뒤 카운터 컬럼/user_stats/시퀀스를 집계 SQL 로 맞추고 ANALYZE
+ */
+public final class SeedGenerator {
+
+    static final String PASSWORD = "loadtest-password";
+
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+    private static final long SPAN_SECONDS = Duration.ofDays(180).toSeconds();
+    private static final int MAX_FOLLOWINGS = 5_000;
+    private static final int MAX_LIKES_PER_FEED = 20_000;
+    private static final String[] TAGS = {
+            "spring", "java", "travel", "food", "daily", "music", "movie", "photo", "cafe", "game",
+            "sports", "book", "coding", "art", "pet", "fashion", "study", "seoul", "busan", "ripple"
+    };
+
+    private final int users;
+    private final int avgFollowings;
+    private final double followSkew;
+    private final int avgFeeds;
+    private final int avgComments;
+    private final int avgLikes;
+    private final int conversationUsers;
+    private final int conversationsPerUser;
+    private final SplittableRandom random;
+    private final ZipfSampler popular;
+
+    // feed id(1부터) -> 작성자 id
+    private int[] feedAuthors = new int[0];
+    private int feedCount;
+
+    private SeedGenerator() {
+        this.users = LoadTestConfig.integer("seed.users", 1_000_000);
+        this.avgFollowings = LoadTestConfig.integer("seed.avg-followings", 40);
+        this.followSkew = LoadTestConfig.decimal("seed.follow-skew", 1.1);
+        this.avgFeeds = LoadTestConfig.integer("seed.avg-feeds", 5);
+        this.avgComments = LoadTestConfig.integer("seed.avg-comments", 3);
+        this.avgLikes = LoadTestConfig.integer("seed.avg-likes", 10);
+        this.conversationUsers = Math.min(users, LoadTestConfig.integer("seed.conversation-users", 100_000));
+        this.conversationsPerUser = LoadTestConfig.integer("seed.conversations-per-user", 2);
+        this.random = new SplittableRandom(LoadTestConfig.integer("seed.random-seed", 42));
+        this.popular = new ZipfSampler(users, followSkew);
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = LoadTestConfig.string("seed.db-url", "DB_URL", "jdbc:postgresql://localhost:5432/ripple_db");
+        String user = LoadTestConfig.string("seed.db-user", "DB_USER", "ripple_user");
+        String password = LoadTestConfig.string("seed.db-password", "DB_PASSWORD", "");
+
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            new SeedGenerator().run(connection);
+        }
+    }
+
+    private void run(Connection connection) throws SQLException {
+        requireEmpty(connection);
+        CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+
+        long started = System.nanoTime();
+        step("users", () -> seedUsers(copy));
+        step("user_follow", () -> seedFollows(copy));
+        step("feeds", () -> seedFeeds(copy));
+        step("comment", () -> seedComments(copy));
+        step("feed_like", () -> seedLikes(copy));
+        step("conversations", () -> seedConversations(copy));
+        step("counters", () -> finish(connection));
+        log("done in %ds", Duration.ofNanos(System.nanoTime() - started).toSeconds());
+    }
+
+    private void requireEmpty(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT EXISTS (SELECT 1 FROM users)")) {
+            rs.next();
+            if (rs.getBoolean(1)) {
+                throw new IllegalStateException("users 테이블이 비어 있지 않습니다. 빈 DB 에서만 실행하세요.");
+            }
+        }
+    }
+
+    private void seedUsers(CopyManager copy) throws SQLException {
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        try (CopyWriter w = new CopyWriter(copy, "users",
+                "id, username, email, password, credits, is_email_verified, status, token_version, created_at, updated_at")) {
+            for (int id = 1; id <= users; id++) {
+                Instant createdAt = randomInstant();
+                w.row(id, "lt_u" + id, "lt_u" + id + "@loadtest.ripple.dev", hash, 10, true, "ACTIVE", 0,
+                        createdAt, createdAt);
+            }
+        }
+    }
+
+    private void seedFollows(CopyManager copy) throws SQLException {
+        Set<Integer> picked = new HashSet<>();
+        try (CopyWriter w = new CopyWriter(copy, "user_follow", "from_user_id, to_user_id, created_at")) {
+            for (int from = 1; from <= users; from++) {
+                int degree = Math.min(Math.min(users - 1, MAX_FOLLOWINGS), exponential(avgFollowings));
+                picked.clear();
+                // 인기 계정이 이미 다 뽑힌 경우를 대비해 시도 횟수 제한
+                for (int attempt = 0; picked.size() < degree && attempt < degree * 4; attempt++) {
+                    int to = popular.sample(random);
+                    if (to != from && picked.add(to)) w.row(from, to, randomInstant());
+                }
+            }
+            log("  %d follows", w.rows());
+        }
+    }
+
+    private void seedFeeds(CopyManager copy) throws SQLException {
+        feedAuthors = new int[Math.max(16, users * avgFeeds + 1)];
+        try (CopyWriter w = new CopyWriter(copy, "feeds",
+                "id, author_id, content, tags_norm, created_at, like_count, bookmark_count, comment_count, view_count, visibility, status")) {
+            for (int author = 1; author <= users; author++) {
+                int count = exponential(avgFeeds);
+                for (int i = 0; i < count; i++) {
+                    int id = ++feedCount;
+                    if (id >= feedAuthors.length) {
+                        feedAuthors = Arrays.copyOf(feedAuthors, feedAuthors.length + feedAuthors.length / 2);
+                    }
+                    feedAuthors[id] = author;
+                    w.row(id, author, "loadtest feed " + id + " by lt_u" + author, tags(), randomInstant(),
+                            0, 0, 0, 0, "PUBLIC", "PUBLISHED");
+                }
+            }
+        }
+        log("  %d feeds", feedCount);
+    }
+
+    private void seedComments(CopyManager copy) throws SQLException {
+        long commentId = 0;
+        try (CopyWriter w = new CopyWriter(copy, "comment",
+                "id, feed_id, author_id, root_comment_id, to_user_id, to_comment_id, content, status, visibility, like_count, created_at")) {
+            for (int feed = 1; feed <= feedCount; feed++) {
+                int count = exponential(avgComments * boost(feedAuthors[feed]));
+                long firstRoot = 0;
+                int firstRootAuthor = 0;
+                for (int i = 0; i < count; i++) {
+                    long id = ++commentId;
+                    int author = 1 + random.nextInt(users);
+                    // 20% 는 첫 댓글에 대한 답글
+                    if (firstRoot != 0 && random.nextInt(5) == 0) {
+                        w.row(id, feed, author, firstRoot, firstRootAuthor, firstRoot, "reply " + id,
+                                "PUBLISHED", "VISIBLE", 0, randomInstant());
+                    } else {
+                        if (firstRoot == 0) {
+                            firstRoot = id;
+                            firstRootAuthor = author;
+                        }
+                        w.row(id, feed, author, null, null, null, "comment " + id,
+                                "PUBLISHED", "VISIBLE", 0, randomInstant());
+                    }
+                }
+            }
+            log("  %d comments", w.rows());
+        }
+    }
+
+    private void seedLikes(CopyManager copy) throws SQLException {
+        Set<Integer> likers = new HashSet<>();
+        try (CopyWriter w = new CopyWriter(copy, "feed_like", "feed_id, user_id, created_at")) {
+            for (int feed = 1; feed <= feedCount; feed++) {
+                int count = Math.min(Math.min(users, MAX_LIKES_PER_FEED), exponential(avgLikes * boost(feedAuthors[feed])));
+                likers.clear();
+                while (likers.size() < count) {
+                    int user = 1 + random.nextInt(users);
+                    if (likers.add(user)) w.row(feed, user, randomInstant());
+                }
+            }
+            log("  %d likes", w.rows());
+        }
+    }
+
+    // DM 대화방 + 첫 메시지 1건 (받은편지함은 메시지가 있는 대화방만 보여줌)
+    // 연결당 COPY 는 하나씩만 가능하므로 쌍을 먼저 뽑고 테이블별로 나눠서 넣음 (conversation id = message id)
+    private void seedConversations(CopyManager copy) throws SQLException {
+        Set<Long> seen = new HashSet<>();
+        long[] pairs = new long[conversationUsers * conversationsPerUser];
+        int count = 0;
+        for (int u = 1; u <= conversationUsers; u++) {
+            for (int i = 0; i < conversationsPerUser; i++) {
+                int partner = popular.sample(random);
+                if (partner == u) continue;
+                long pair = ((long) u << 32) | partner;
+                long key = ((long) Math.min(u, partner) << 32) | Math.max(u, partner);
+                if (seen.add(key)) pairs[count++] = pair;
+            }
+        }
+        Instant[] sentAt = new Instant[count];
+        for (int i = 0; i < count; i++) sentAt[i] = randomInstant();
+
+        try (CopyWriter w = new CopyWriter(copy, "conversations",
+                "id, type, last_message_id, last_message_content, last_message_at")) {
+            for (int i = 0; i < count; i++) {
+                w.row(i + 1, "DM", i + 1, greeting(pairs[i]), sentAt[i]);
+            }
+        }
+        try (CopyWriter w = new CopyWriter(copy, "conversation_participants", "conversation_id, user_id")) {
+            for (int i = 0; i < count; i++) {
+                w.row(i + 1, (int) (pairs[i] >>> 32));
+                w.row(i + 1, (int) pairs[i]);
+            }
+        }
+        try (CopyWriter w = new CopyWriter(copy, "messages",
+                "id, conversation_id, sender_id, content, message_type, sent_at, deleted")) {
+            for (int i = 0; i < count; i++) {
+                w.row(i + 1, i + 1, (int) (pairs[i] >>> 32), greeting(pairs[i]), "TEXT",
+                        LocalDateTime.ofInstant(sentAt[i], ZoneOffset.UTC), false);
+            }
+        }
+        log("  %d conversations", count);
+    }
+
+    private static String greeting(long pair) {
+        return "hello from lt_u" + (pair >>> 32);
+    }
+
+    private void finish(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            // 태그 검색/태그별 피드 조회용 (tags_norm 기준)
+            st.execute("""
+                    INSERT INTO tags (name)
+                    SELECT DISTINCT unnest(tags_norm) FROM feeds
+                    ON CONFLICT (name) DO NOTHING
+                    """);
+            st.execute("""
+                    INSERT INTO feed_tag_relations (feed_id, tag_id, created_at)
+                    SELECT f.id, t.id, f.created_at
+                    FROM feeds f
+                    CROSS JOIN LATERAL unnest(f.tags_norm) AS n(name)
+                    JOIN tags t ON t.name = n.name
+                    """);
+            st.execute("""
+                    UPDATE feeds f SET like_count = l.cnt
+                    FROM (SELECT feed_id, count(*) AS cnt FROM feed_like GROUP BY feed_id) l
+                    WHERE f.id = l.feed_id
+                    """);
+            st.execute("""
+                    UPDATE feeds f SET comment_count = c.cnt
+                    FROM (SELECT feed_id, count(*) AS cnt FROM comment GROUP BY feed_id) c
+                    WHERE f.id = c.feed_id
+                    """);
+            st.execute("""
+                    INSERT INTO user_stats (user_id, posts_count, followers_count, followings_count)
+                    SELECT u.id,
+                           coalesce(p.cnt, 0),
+                           coalesce(fr.cnt, 0),
+                           coalesce(fg.cnt, 0)
+                    FROM users u
+                    LEFT JOIN (SELECT author_id, count(*) AS cnt FROM feeds GROUP BY author_id) p ON p.author_id = u.id
+                    LEFT JOIN (SELECT to_user_id, count(*) AS cnt FROM user_follow GROUP BY to_user_id) fr ON fr.to_user_id = u.id
+                    LEFT JOIN (SELECT from_user_id, count(*) AS cnt FROM user_follow GROUP BY from_user_id) fg ON fg.from_user_id = u.id
+                    ON CONFLICT (user_id) DO NOTHING
+                    """);
+            for (String table : new String[]{"users", "feeds", "comment", "conversations", "messages"}) {
+                st.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                        + "(SELECT coalesce(max(id), 0) + 1 FROM " + table + "), false)");
+            }
+            st.execute("ANALYZE");
+        }
+    }
+
+    // 평균이 mean 인 지수 분포 (대부분 적고 일부가 매우 많음)
+    private int exponential(double mean) {
+        if (mean <= 0) return 0;
+        return (int) Math.round(-mean * Math.log(1 - random.nextDouble()));
+    }
+
+    // 작성자 인기 가중치 (id 1 이 가장 크고, 대부분의 계정은 0.5 근처)
+    private double boost(int authorId) {
+        return Math.min(100, Math.sqrt((double) users / authorId) / 10 + 0.5);
+    }
+
+    private String tags() {
+        int count = random.nextInt(4);
+        StringBuilder sb = new StringBuilder("{");
+        Set<String> used = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            String tag = TAGS[random.nextInt(TAGS.length)];
+            if (!used.add(tag)) continue;
+            if (sb.length() > 1) sb.append(',');
+            sb.append(tag);
+        }
+        return sb.append('}').toString();
+    }
+
+    private Instant randomInstant() {
+        return EPOCH.plusSeconds(random.nextLong(SPAN_SECONDS));
+    }
+
+    private interface SqlStep {
+        void run() throws SQLException;
+    }
+
+    private static void step(String name, SqlStep step) throws SQLException {
+        long started = System.nanoTime();
+        log("seeding %s ...", name);
+        step.run();
+        log("seeded %s in %ds", name, Duration.ofNanos(System.nanoTime() - started).toSeconds());
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf(format + "%n", args);
+    }
+}
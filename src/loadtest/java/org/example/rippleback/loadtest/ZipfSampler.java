@@ -0,0 +1,30 @@
+package org.example.rippleback.loadtest;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 1..n 에서 rank 가 작을수록 자주 뽑히는 power-law(Zipf) 샘플러
+ * - 역 CDF 의 연속 근사를 써서 O(1) (n 이 수백만이어도 테이블 없음)
+ * - 시드 데이터에서는 user id 가 작을수록 팔로워가 많은 인기 계정이 됨
+ */
+final class ZipfSampler {
+
+    private final int n;
+    private final double exponent;
+    private final double hMax;
+
+    ZipfSampler(int n, double exponent) {
+        if (n < 1) throw new IllegalArgumentException("n must be >= 1");
+        if (exponent <= 0 || exponent == 1.0) throw new IllegalArgumentException("exponent must be > 0 and != 1");
+        this.n = n;
+        this.exponent = exponent;
+        this.hMax = Math.pow(n + 1, 1 - exponent) - 1;
+    }
+
+    int sample(RandomGenerator random) {
+        double u = random.nextDouble();
+        double x = Math.pow(u * hMax + 1, 1 / (1 - exponent));
+        int rank = (int) x;
+        return Math.max(1, Math.min(n, rank));
+    }
+}
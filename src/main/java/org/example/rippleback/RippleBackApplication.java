@@ -1,12 +1,13 @@
 package org.example.rippleback;
 
+import org.example.rippleback.core.ratelimit.RateLimitProperties;
 import org.example.rippleback.core.security.jwt.JwtProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, RateLimitProperties.class})
 public class RippleBackApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,15 @@
+package org.example.rippleback.core.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * spring.threads.virtual.enabled=true 이면 Boot 가 스케줄러와 @Async 기본 executor 를
+ * virtual thread 기반(SimpleAsyncTaskScheduler / SimpleAsyncTaskExecutor)으로 구성함
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class SchedulingConfig {
+}
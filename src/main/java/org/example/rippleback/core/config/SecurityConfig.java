@@ -1,5 +1,6 @@
 package org.example.rippleback.core.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.example.rippleback.core.security.jwt.JwtAuthenticationFilter;
 import org.example.rippleback.features.user.app.CustomUserDetailsService;
@@ -48,9 +49,18 @@ public class SecurityConfig {
     private String corsExposedHeaders;
     @Value("${app.cors.allow-credentials:true}")
     private boolean corsAllowCredentials;
+    // loadtest 프로필 전용: 부하 드라이버가 토큰 없이 요청당 SQL 수 메트릭을 읽을 수 있게 함
+    @Value("${app.security.permit-metrics:false}")
+    private boolean permitMetrics;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        if (permitMetrics) {
+            // anyRequest() 보다 앞에 등록되어야 하므로 먼저 추가
+            http.authorizeHttpRequests(auth -> auth
+                    .requestMatchers("/actuator/metrics", "/actuator/metrics/**").permitAll());
+        }
+
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(Customizer.withDefaults())
@@ -60,6 +70,9 @@ public class SecurityConfig {
                         .accessDeniedHandler(accessDeniedHandler)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 완료 시의 async dispatch (인증은 최초 요청에서 이미 끝남)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         .requestMatchers(
                                 "/v3/api-docs/**",
                                 "/swagger-ui/**",
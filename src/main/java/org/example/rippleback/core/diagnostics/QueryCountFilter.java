@@ -0,0 +1,48 @@
+package org.example.rippleback.core.diagnostics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청당 SQL 수를 http.server.requests.queries 메트릭(method, uri 패턴 태그)으로 기록
+ * - N+1 이 생긴 엔드포인트를 부하 테스트 리포트에서 바로 볼 수 있게 함
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.diagnostics.query-count", name = "enabled", havingValue = "true")
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final String METRIC = "http.server.requests.queries";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryCountInspector.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int queries = QueryCountInspector.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(METRIC)
+                    .description("요청당 Hibernate SQL 수")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                    .register(meterRegistry)
+                    .record(queries);
+        }
+    }
+}
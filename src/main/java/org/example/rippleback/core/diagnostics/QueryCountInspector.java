@@ -0,0 +1,30 @@
+package org.example.rippleback.core.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 스레드에서 Hibernate 가 준비한 SQL 수를 센다 (QueryCountFilter 가 begin/end)
+ * - hibernate.session_factory.statement_inspector 로 등록 (loadtest 프로필)
+ * - JdbcTemplate 로 직접 실행하는 SQL 은 포함되지 않음
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    static void begin() {
+        COUNT.set(new int[1]);
+    }
+
+    static int end() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) count[0]++;
+        return sql;
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.rippleback.core.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * virtual thread pinning 진단 (JFR jdk.VirtualThreadPinned 이벤트 구독)
+ * - synchronized 블록/네이티브 프레임 안에서 blocking 되어 carrier thread 를 threshold 이상 붙잡은 경우를 기록
+ * - 횟수/시간은 jvm.threads.virtual.pinned 메트릭으로, 위치는 호출 지점별로 한 번만 로그
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.diagnostics.pinning", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "org.example.rippleback.";
+    private static final int LOGGED_FRAMES = 8;
+    private static final int MAX_LOGGED_SITES = 1_000;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.diagnostics.pinning.threshold:20ms}")
+    private Duration threshold;
+
+    private final Set<String> loggedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+    private Counter pinnedCount;
+    private Timer pinnedTime;
+
+    @PostConstruct
+    void start() {
+        pinnedCount = Counter.builder("jvm.threads.virtual.pinned")
+                .description("threshold 이상 carrier 에 고정된 virtual thread 수")
+                .register(meterRegistry);
+        pinnedTime = Timer.builder("jvm.threads.virtual.pinned.duration")
+                .register(meterRegistry);
+
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("virtual thread pinning monitor started. threshold={}", threshold);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) stream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+        pinnedTime.record(event.getDuration());
+
+        RecordedStackTrace trace = event.getStackTrace();
+        if (trace == null) return;
+        List<RecordedFrame> frames = trace.getFrames();
+        if (frames.isEmpty()) return;
+
+        // 같은 지점은 한 번만 로그 (애플리케이션 코드의 첫 프레임 기준)
+        String site = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(VirtualThreadPinningMonitor::describe)
+                .filter(f -> f.startsWith(APP_PACKAGE))
+                .findFirst()
+                .orElse(describe(frames.get(0)));
+        if (loggedSites.size() >= MAX_LOGGED_SITES || !loggedSites.add(site)) return;
+
+        String stack = frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.joining("\n\tat "));
+        log.warn("virtual thread pinned for {} ms at {}\n\tat {}", event.getDuration().toMillis(), site, stack);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -10,6 +10,8 @@ public enum ErrorCode {
     FORBIDDEN(HttpStatus.FORBIDDEN, "9002", "접근 권한이 없습니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "9003", "요청한 자원을 찾을 수 없습니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "9004", "서버 내부 오류가 발생했습니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "9005", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    PAYLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "9006", "요청 본문이 너무 큽니다."),
 
     // USER (1000–1099)
     DUPLICATE_USERNAME(HttpStatus.CONFLICT, "1000", "중복된 ID입니다."),
@@ -38,6 +40,7 @@ public enum ErrorCode {
     REFRESH_TOKEN_MISMATCH(HttpStatus.UNAUTHORIZED, "1107", "RT 정보가 일치하지 않습니다."),
     REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "1108", "RT 재사용이 감지되었습니다."),
     SESSION_INVALIDATED(HttpStatus.UNAUTHORIZED, "1109", "세션이 무효화되었습니다."),
+    REFRESH_IN_PROGRESS(HttpStatus.CONFLICT, "1110", "이미 처리된 토큰 갱신 요청입니다. 최신 토큰으로 다시 시도해 주세요."),
 
     // FEED (1200–1299)
     FEED_NOT_FOUND(HttpStatus.NOT_FOUND, "1200", "포스트를 찾을 수 없습니다."),
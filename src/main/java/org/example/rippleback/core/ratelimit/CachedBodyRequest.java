@@ -0,0 +1,74 @@
+package org.example.rippleback.core.ratelimit;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+// body 를 미리 읽어 두고 뒤쪽(컨트롤러)에서 다시 읽을 수 있게 하는 요청 래퍼
+final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    CachedBodyRequest(HttpServletRequest request, byte[] body) {
+        super(request);
+        this.body = body;
+    }
+
+    // Content-Length 와 관계없이(chunked 포함) 최대 max + 1 바이트까지만 읽고, max 를 넘으면 null
+    static byte[] readAtMost(HttpServletRequest request, int max) throws IOException {
+        byte[] bytes = request.getInputStream().readNBytes(max + 1);
+        return bytes.length > max ? null : bytes;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream in = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return in.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            // body 는 이미 메모리에 있으므로 바로 읽을 수 있음을 알리고 끝을 알림
+            @Override
+            public void setReadListener(ReadListener listener) {
+                try {
+                    if (!isFinished()) listener.onDataAvailable();
+                    listener.onAllDataRead();
+                } catch (IOException e) {
+                    listener.onError(e);
+                }
+            }
+
+            @Override
+            public int read() {
+                return in.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return in.read(b, off, len);
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+}
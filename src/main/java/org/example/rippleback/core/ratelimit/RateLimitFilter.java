@@ -0,0 +1,138 @@
+package org.example.rippleback.core.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.rippleback.core.error.ErrorCode;
+import org.example.rippleback.core.error.ErrorResponse;
+import org.example.rippleback.core.security.jwt.TokenHash;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 경로별 요청 수 제한 (app.rate-limit.rules)
+ * - Security/컨트롤러보다 앞에서 실행되어, 초과 요청은 BCrypt 비교나 메일 발송 전에 429 로 끝남
+ * - USERNAME/EMAIL 기준 규칙은 JSON body 를 미리 읽어 필드 값을 키로 사용 (값은 해시해서 Redis 키에 넣음)
+ * - 그런 경로에서는 body 가 MAX_BODY_BYTES 를 넘으면 413, 읽을 수 없거나 JSON 이 아니면 400
+ *   (Content-Length 를 믿지 않음. chunked 나 패딩으로 계정 기준 제한을 건너뛰지 못하게)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final RateLimitProperties properties;
+    private final SlidingWindowRateLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled() || matchingRules(request).isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        List<RateLimitProperties.Rule> rules = matchingRules(request);
+
+        HttpServletRequest req = request;
+        JsonNode body = null;
+        boolean needsBody = rules.stream().anyMatch(r -> r.key() != RateLimitKey.IP);
+        if (needsBody) {
+            if (request.getContentLengthLong() > MAX_BODY_BYTES) {
+                reject(response, ErrorCode.PAYLOAD_TOO_LARGE);
+                return;
+            }
+            byte[] bytes;
+            try {
+                bytes = CachedBodyRequest.readAtMost(request, MAX_BODY_BYTES);
+            } catch (IOException e) {
+                reject(response, ErrorCode.VALIDATION_ERROR);
+                return;
+            }
+            if (bytes == null) {
+                reject(response, ErrorCode.PAYLOAD_TOO_LARGE);
+                return;
+            }
+            body = parse(bytes);
+            if (body == null) {
+                reject(response, ErrorCode.VALIDATION_ERROR);
+                return;
+            }
+            req = new CachedBodyRequest(request, bytes);
+        }
+
+        for (RateLimitProperties.Rule rule : rules) {
+            String key = keyOf(rule.key(), request, body);
+            if (key == null) continue;
+
+            Duration retryAfter = limiter.tryAcquire(rule.name(), key, rule.limit(), rule.window());
+            if (!retryAfter.isZero()) {
+                long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+                reject(response, ErrorCode.TOO_MANY_REQUESTS);
+                return;
+            }
+        }
+
+        filterChain.doFilter(req, response);
+    }
+
+    private List<RateLimitProperties.Rule> matchingRules(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String ctx = request.getContextPath();
+        String path = (ctx != null && !ctx.isEmpty() && uri.startsWith(ctx)) ? uri.substring(ctx.length()) : uri;
+
+        return properties.rules().stream()
+                .filter(r -> r.path().equals(path) && r.method().equalsIgnoreCase(request.getMethod()))
+                .toList();
+    }
+
+    // 비었거나 JSON 객체가 아니면 null
+    private JsonNode parse(byte[] body) {
+        if (body.length == 0) return null;
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            return node != null && node.isObject() ? node : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String keyOf(RateLimitKey key, HttpServletRequest request, JsonNode body) {
+        return switch (key) {
+            case IP -> request.getRemoteAddr();
+            case USERNAME -> bodyField(body, "username");
+            case EMAIL -> bodyField(body, "email");
+        };
+    }
+
+    private static String bodyField(JsonNode body, String field) {
+        if (body == null) return null;
+        JsonNode node = body.get(field);
+        // 숫자 등도 DTO 바인딩에서 문자열로 바뀌므로 같은 키로 셈
+        if (node == null || !node.isValueNode() || node.isNull() || node.asText().isBlank()) return null;
+        return TokenHash.sha256(node.asText().trim().toLowerCase(Locale.ROOT));
+    }
+
+    private void reject(HttpServletResponse response, ErrorCode ec) throws IOException {
+        response.setStatus(ec.httpStatus().value());
+        response.setContentType("application/json;charset=UTF-8");
+        objectMapper.writeValue(response.getWriter(), ErrorResponse.of(ec));
+    }
+}
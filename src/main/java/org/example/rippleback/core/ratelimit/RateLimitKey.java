@@ -0,0 +1,8 @@
+package org.example.rippleback.core.ratelimit;
+
+// 요청을 어떤 값 기준으로 셀지 (USERNAME/EMAIL 은 JSON body 의 같은 이름 필드)
+public enum RateLimitKey {
+    IP,
+    USERNAME,
+    EMAIL
+}
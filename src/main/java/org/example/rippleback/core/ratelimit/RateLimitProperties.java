@@ -0,0 +1,32 @@
+package org.example.rippleback.core.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        List<Rule> rules
+) {
+    public RateLimitProperties {
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+
+    /**
+     * @param name   Redis 키에 쓰는 규칙 이름
+     * @param method HTTP 메서드
+     * @param path   정확히 일치하는 경로
+     * @param key    카운트 기준
+     * @param limit  window 안에서 허용하는 요청 수
+     */
+    public record Rule(
+            String name,
+            String method,
+            String path,
+            RateLimitKey key,
+            int limit,
+            Duration window
+    ) {}
+}
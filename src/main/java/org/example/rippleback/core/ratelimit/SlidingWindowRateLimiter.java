@@ -0,0 +1,87 @@
+package org.example.rippleback.core.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis ZSET 기반 sliding window 카운터 (모든 노드가 같은 window 를 공유)
+ * - key: rl:{rule}:{key}, member 는 요청마다 고유, score 는 요청 시각(ms)
+ * - 거절된 키는 풀리는 시각까지 노드 메모리에 기억해서 Redis 에 가지 않고 바로 거절 (로컬 pre-filter)
+ * - Redis 장애 시에는 통과 (가용성 우선)
+ */
+@Slf4j
+@Component
+public class SlidingWindowRateLimiter {
+
+    private static final String KEY_PREFIX = "rl:";
+
+    // 허용이면 0, 거절이면 다시 시도할 수 있을 때까지 남은 ms
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local limit = tonumber(ARGV[3])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - window)
+            if redis.call('ZCARD', KEYS[1]) >= limit then
+              local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+              return math.max(tonumber(oldest[2]) + window - now, 1)
+            end
+            redis.call('ZADD', KEYS[1], now, ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], window)
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Clock clock;
+
+    // 거절된 키 -> 풀리는 시각(epoch ms)
+    private final Cache<String, Long> blockedUntil = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public SlidingWindowRateLimiter(RedisTemplate<String, String> redisTemplate, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * @return 허용이면 Duration.ZERO, 거절이면 다시 시도까지 남은 시간
+     */
+    public Duration tryAcquire(String rule, String key, int limit, Duration window) {
+        String redisKey = KEY_PREFIX + rule + ":" + key;
+        long now = clock.millis();
+
+        Long until = blockedUntil.getIfPresent(redisKey);
+        if (until != null) {
+            if (until > now) return Duration.ofMillis(until - now);
+            blockedUntil.invalidate(redisKey);
+        }
+
+        Long retryAfterMs;
+        try {
+            retryAfterMs = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(redisKey),
+                    String.valueOf(now),
+                    String.valueOf(window.toMillis()),
+                    String.valueOf(limit),
+                    now + ":" + UUID.randomUUID());
+        } catch (DataAccessException e) {
+            log.warn("rate limiter unavailable, allowing request. rule={}", rule, e);
+            return Duration.ZERO;
+        }
+
+        if (retryAfterMs == null || retryAfterMs <= 0) return Duration.ZERO;
+        blockedUntil.put(redisKey, now + retryAfterMs);
+        return Duration.ofMillis(retryAfterMs);
+    }
+}
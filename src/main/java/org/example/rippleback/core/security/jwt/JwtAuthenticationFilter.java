@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.example.rippleback.core.error.BusinessException;
 import org.example.rippleback.core.error.ErrorCode;
+import org.example.rippleback.infra.redis.TokenVersionService;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -23,7 +24,8 @@ import static org.example.rippleback.core.security.jwt.JwtClaims.TOKEN_TYPE_ACCE
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenVersionService tokenVersionService;
 
     private static final Set<String> SKIP_EXACT = Set.of(
             "/api/auth/login",
@@ -89,15 +91,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         try {
-            var c = jwtTokenProvider.decode(token);
-            if (TOKEN_TYPE_ACCESS.equals(c.tokenType())) {
+            var c = verifiedTokenCache.decode(token);
+            if (!TOKEN_TYPE_ACCESS.equals(c.tokenType())) {
+                request.setAttribute("auth_error", new BusinessException(ErrorCode.TOKEN_TYPE_INVALID));
+            } else if (c.version() == null || c.version() < tokenVersionService.currentVersion(c.userId())) {
+                // 탈퇴/RT 재사용 감지 등으로 폐기된 토큰
+                request.setAttribute("auth_error", new BusinessException(ErrorCode.SESSION_INVALIDATED));
+            } else {
                 var principal = new JwtPrincipal(c.userId());
                 var auth = new UsernamePasswordAuthenticationToken(
                         principal, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
                 SecurityContextHolder.getContext().setAuthentication(auth);
-            } else {
-                request.setAttribute("auth_error", new BusinessException(ErrorCode.TOKEN_TYPE_INVALID));
             }
+        } catch (BusinessException e) {
+            // 토큰 주인이 없어진 경우 등
+            request.setAttribute("auth_error", e);
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
             request.setAttribute("auth_error", new BusinessException(ErrorCode.TOKEN_EXPIRED));
         } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
@@ -1,6 +1,7 @@
 package org.example.rippleback.core.security.jwt;
 
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,6 +13,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.time.Clock;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.Objects;
 import java.util.UUID;
@@ -25,11 +27,16 @@ public class JwtTokenProvider {
     private final JwtProperties props;
     private final Clock clock;
     private Key hmacKey;
+    // 불변/thread-safe 라서 한 번 만들어 재사용
+    private JwtParser parser;
 
     public static record TokenClaims(
             Long userId, String tokenType, Long version, String jti, String deviceId, Instant exp
     ) {}
 
+    // 발급한 RT 와 그 claim (다시 decode 하지 않고 jti/만료 시각을 쓰기 위함, exp 는 JWT 처럼 초 단위)
+    public record IssuedToken(String token, String jti, Instant exp) {}
+
     @PostConstruct
     public void init() {
         byte[] keyBytes = Objects.requireNonNull(props.secret(), "jwt.secret must not be null")
@@ -38,6 +45,10 @@ public class JwtTokenProvider {
             throw new IllegalStateException("jwt.secret must be at least 32 bytes for HS256");
         }
         this.hmacKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(hmacKey)
+                .setAllowedClockSkewSeconds(props.allowedClockSkewSeconds())
+                .build();
     }
 
     public String createAccessToken(Long userId, long tokenVersion) {
@@ -54,26 +65,28 @@ public class JwtTokenProvider {
     }
 
     public String createRefreshToken(Long userId, long tokenVersion, String deviceId) {
+        return issueRefreshToken(userId, tokenVersion, deviceId).token();
+    }
+
+    public IssuedToken issueRefreshToken(Long userId, long tokenVersion, String deviceId) {
         Instant now = Instant.now(clock);
-        Instant exp = now.plusMillis(props.refreshTokenExpiration());
-        return Jwts.builder()
+        Instant exp = now.plusMillis(props.refreshTokenExpiration()).truncatedTo(ChronoUnit.SECONDS);
+        String jti = UUID.randomUUID().toString();
+        String token = Jwts.builder()
                 .setSubject(String.valueOf(userId))
                 .claim(TOKEN_TYPE, TOKEN_TYPE_REFRESH)
                 .claim(VERSION, tokenVersion)
                 .claim(DEVICE_ID, deviceId)
-                .setId(UUID.randomUUID().toString())
+                .setId(jti)
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(exp))
                 .signWith(hmacKey, SignatureAlgorithm.HS256)
                 .compact();
+        return new IssuedToken(token, jti, exp);
     }
 
     public TokenClaims decode(String token) {
-        var jws = Jwts.parserBuilder()
-                .setSigningKey(hmacKey)
-                .setAllowedClockSkewSeconds(props.allowedClockSkewSeconds())
-                .build()
-                .parseClaimsJws(token);
+        var jws = parser.parseClaimsJws(token);
         var c = jws.getBody();
         Long userId = Long.valueOf(c.getSubject());
         String tokenType = (String) c.get(TOKEN_TYPE);
@@ -0,0 +1,58 @@
+package org.example.rippleback.core.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 서명 검증이 끝난 토큰의 claims 캐시
+ * - key: 토큰 SHA-256 (원문 토큰은 메모리에 남기지 않음)
+ * - 항목은 토큰 exp 시각에 만료, 개수 상한을 넘으면 size 기반 eviction
+ * - 검증 실패(만료/위조)는 캐시하지 않고 예외를 그대로 던짐
+ * - 적중률은 jwt.verified 이름의 cache 메트릭으로 노출
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Clock clock;
+    private final Cache<String, JwtTokenProvider.TokenClaims> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              Clock clock,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.security.token-cache.max-size:100000}") long maxSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<String, JwtTokenProvider.TokenClaims>writing(
+                        (key, claims) -> Duration.between(clock.instant(), claims.exp())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+    }
+
+    public JwtTokenProvider.TokenClaims decode(String token) {
+        String key = TokenHash.sha256(token);
+        JwtTokenProvider.TokenClaims claims = cache.getIfPresent(key);
+        if (claims != null && claims.exp().isAfter(clock.instant())) {
+            return claims;
+        }
+        // 미스 또는 만료 직후: 다시 검증 (만료면 ExpiredJwtException)
+        claims = jwtTokenProvider.decode(token);
+        cache.put(key, claims);
+        return claims;
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(TokenHash.sha256(token));
+    }
+}
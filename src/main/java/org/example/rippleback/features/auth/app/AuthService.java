@@ -12,6 +12,7 @@ import org.example.rippleback.features.user.domain.UserStatus;
 import org.example.rippleback.features.user.infra.UserRepository;
 import org.example.rippleback.core.security.jwt.JwtTokenProvider;
 import org.example.rippleback.infra.redis.RefreshTokenService;
+import org.example.rippleback.infra.redis.TokenVersionService;
 import org.example.rippleback.core.security.jwt.TokenHash;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -33,6 +34,7 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
+    private final TokenVersionService tokenVersionService;
     private final UserRepository userRepository;
     private final Clock clock;
 
@@ -55,12 +57,12 @@ public class AuthService {
         long ver = user.getTokenVersion();
 
         String access = jwtTokenProvider.createAccessToken(userId, ver);
-        String refresh = jwtTokenProvider.createRefreshToken(userId, ver, request.deviceId());
+        var issued = jwtTokenProvider.issueRefreshToken(userId, ver, request.deviceId());
+        String refresh = issued.token();
 
-        var c = jwtTokenProvider.decode(refresh);
-        long remainMs = Duration.between(Instant.now(clock), c.exp()).toMillis();
+        long remainMs = Duration.between(Instant.now(clock), issued.exp()).toMillis();
         String hash = TokenHash.sha256(refresh);
-        refreshTokenService.store(userId, request.deviceId(), c.jti(), hash, remainMs);
+        refreshTokenService.store(userId, request.deviceId(), issued.jti(), hash, remainMs);
 
         user.touchLastLogin(Instant.now(clock));
 
@@ -84,20 +86,6 @@ public class AuthService {
             throw new BusinessException(ErrorCode.DEVICE_MISMATCH);
         }
 
-        if (refreshTokenService.isUsed(jti)) {
-            userRepository.incrementTokenVersion(userId);
-            throw new BusinessException(ErrorCode.REFRESH_TOKEN_REUSED);
-        }
-
-        String hash = TokenHash.sha256(provided);
-        var entryOpt = refreshTokenService.get(userId, request.deviceId());
-        if (entryOpt.isEmpty()) throw new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
-        var entry = entryOpt.get();
-        if (!entry.jti().equals(jti) || !entry.hash().equals(hash)) {
-            refreshTokenService.delete(userId, request.deviceId());
-            throw new BusinessException(ErrorCode.REFRESH_TOKEN_MISMATCH);
-        }
-
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         if (user.getStatus() != UserStatus.ACTIVE) {
@@ -107,17 +95,26 @@ public class AuthService {
             throw new BusinessException(ErrorCode.SESSION_INVALIDATED);
         }
 
-        String newAccess = jwtTokenProvider.createAccessToken(userId, ver);
-        String newRefresh = jwtTokenProvider.createRefreshToken(userId, ver, request.deviceId());
-
-        refreshTokenService.markUsed(jti, remainMs);
-
-        var nc = jwtTokenProvider.decode(newRefresh);
-        long newRemainMs = Duration.between(Instant.now(clock), nc.exp()).toMillis();
-        String newHash = TokenHash.sha256(newRefresh);
-        refreshTokenService.store(userId, request.deviceId(), nc.jti(), newHash, newRemainMs);
-
-        return new TokenResponseDto(newAccess, newRefresh);
+        // 새 RT 의 hash 를 회전 스크립트에서 함께 저장해야 하므로 RT 만 먼저 서명 (decode 없이 jti/exp 사용)
+        // access token 은 회전이 성공한 경우에만 발급
+        var issued = jwtTokenProvider.issueRefreshToken(userId, ver, request.deviceId());
+        long newRemainMs = Duration.between(Instant.now(clock), issued.exp()).toMillis();
+
+        // 재사용 확인 / 저장된 RT 비교 / 사용 처리 / 새 RT 저장을 Redis 한 번에 원자적으로
+        var result = refreshTokenService.rotate(userId, request.deviceId(),
+                jti, TokenHash.sha256(provided), remainMs,
+                issued.jti(), TokenHash.sha256(issued.token()), newRemainMs);
+
+        return switch (result) {
+            case OK -> new TokenResponseDto(jwtTokenProvider.createAccessToken(userId, ver), issued.token());
+            case RACE -> throw new BusinessException(ErrorCode.REFRESH_IN_PROGRESS);
+            case REUSED -> {
+                tokenVersionService.revoke(userId);
+                throw new BusinessException(ErrorCode.REFRESH_TOKEN_REUSED);
+            }
+            case NOT_FOUND -> throw new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+            case MISMATCH -> throw new BusinessException(ErrorCode.REFRESH_TOKEN_MISMATCH);
+        };
     }
 
     @Transactional
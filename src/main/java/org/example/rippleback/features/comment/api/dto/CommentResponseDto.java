@@ -18,6 +18,11 @@ public record CommentResponseDto(
         Instant createdAt
 ) {
     public static CommentResponseDto from(Comment c, UserProfileSummaryResponseDto authorSummary) {
+        return from(c, authorSummary, c.getLikeCount());
+    }
+
+    // likeCount: 반영 대기 중인 증감분까지 더한 값
+    public static CommentResponseDto from(Comment c, UserProfileSummaryResponseDto authorSummary, int likeCount) {
         String safeContent = c.getStatus() == CommentStatus.DELETED
                 ? "삭제된 상태입니다."
                 : c.getContent();
@@ -29,7 +34,7 @@ public record CommentResponseDto(
                 c.getReplyToUserId(),
                 c.getReplyToCommentId(),
                 safeContent,
-                c.getLikeCount(),
+                likeCount,
                 c.getStatus() == CommentStatus.DELETED,
                 c.getCreatedAt()
         );
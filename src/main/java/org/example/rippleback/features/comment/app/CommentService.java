@@ -14,10 +14,13 @@ import org.example.rippleback.features.feed.domain.FeedStatus;
 import org.example.rippleback.features.feed.domain.FeedVisibility;
 import org.example.rippleback.features.feed.infra.FeedRepository;
 import org.example.rippleback.features.user.api.dto.UserProfileSummaryResponseDto;
+import org.example.rippleback.features.user.app.UserBlockSetCache;
 import org.example.rippleback.features.user.app.UserMapper;
 import org.example.rippleback.features.user.domain.User;
 import org.example.rippleback.features.user.infra.UserFollowRepository;
 import org.example.rippleback.features.user.infra.UserRepository;
+import org.example.rippleback.infra.counter.CounterBuffer;
+import org.example.rippleback.infra.counter.CounterType;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -40,6 +43,8 @@ public class CommentService {
     private final CommentReportRepository commentReportRepo;
     private final FeedRepository feedRepo;
     private final UserMapper userMapper;
+    private final UserBlockSetCache userBlockSetCache;
+    private final CounterBuffer counterBuffer;
 
     @Transactional
     public CommentResponseDto  create(Long authorId, Long feedId, Long parentId, String content) {
@@ -85,7 +90,7 @@ public class CommentService {
                 .createdAt(Instant.now())
                 .build());
 
-        feedRepo.incrementCommentCount(feedId);
+        counterBuffer.increment(CounterType.FEED_COMMENT, feedId);
 
         User author = userRepo.findById(authorId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -131,7 +136,7 @@ public class CommentService {
         commentLikeRepo.deleteAllByCommentId(commentId);
 
         if (wasVisible && !c.isVisible()) {
-            feedRepo.decrementCommentCount(c.getFeedId());
+            counterBuffer.decrement(CounterType.FEED_COMMENT, c.getFeedId());
         }
 
         commentRepo.save(c);
@@ -148,7 +153,7 @@ public class CommentService {
 
         int inserted = commentLikeRepo.insertIgnore(authorId, commentId);
         if (inserted > 0) {
-            commentRepo.incLikeCount(commentId);
+            counterBuffer.increment(CounterType.COMMENT_LIKE, commentId);
         }
     }
 
@@ -163,7 +168,7 @@ public class CommentService {
 
         int deleted = commentLikeRepo.deleteOne(authorId, commentId);
         if (deleted > 0) {
-            commentRepo.decLikeCount(commentId);
+            counterBuffer.decrement(CounterType.COMMENT_LIKE, commentId);
         }
     }
 
@@ -239,7 +244,13 @@ public class CommentService {
             return new CommentPageResponseDto(List.of(), null, false);
         }
 
-        Set<Long> authorIds = comments.stream()
+        // 차단 관계인 작성자의 댓글은 제외 (커서는 필터 전 목록 기준)
+        Set<Long> blockedIds = userBlockSetCache.blockedWith(viewerId);
+        List<Comment> visible = comments.stream()
+                .filter(c -> !blockedIds.contains(c.getAuthorId()))
+                .toList();
+
+        Set<Long> authorIds = visible.stream()
                 .map(Comment::getAuthorId)
                 .collect(Collectors.toSet());
 
@@ -262,7 +273,7 @@ public class CommentService {
                         }
                 ));
 
-        List<CommentResponseDto> dtos = comments.stream()
+        List<CommentResponseDto> dtos = visible.stream()
                 .map(c -> {
                     UserProfileSummaryResponseDto author = authorMap.get(c.getAuthorId());
                     if (author == null) {
@@ -273,7 +284,8 @@ public class CommentService {
                                 false
                         );
                     }
-                    return CommentResponseDto.from(c, author);
+                    return CommentResponseDto.from(c, author,
+                            counterBuffer.overlay(CounterType.COMMENT_LIKE, c.getId(), c.getLikeCount()));
                 })
                 .toList();
 
@@ -327,7 +339,13 @@ public class CommentService {
             return new CommentPageResponseDto(List.of(), null, false);
         }
 
-        Set<Long> authorIds = replies.stream()
+        // 차단 관계인 작성자의 댓글은 제외 (커서는 필터 전 목록 기준)
+        Set<Long> blockedIds = userBlockSetCache.blockedWith(viewerId);
+        List<Comment> visible = replies.stream()
+                .filter(c -> !blockedIds.contains(c.getAuthorId()))
+                .toList();
+
+        Set<Long> authorIds = visible.stream()
                 .map(Comment::getAuthorId)
                 .collect(Collectors.toSet());
 
@@ -350,7 +368,7 @@ public class CommentService {
                         }
                 ));
 
-        List<CommentResponseDto> dtos = replies.stream()
+        List<CommentResponseDto> dtos = visible.stream()
                 .map(c -> {
                     UserProfileSummaryResponseDto author = authorMap.get(c.getAuthorId());
                     if (author == null) {
@@ -361,7 +379,8 @@ public class CommentService {
                                 false
                         );
                     }
-                    return CommentResponseDto.from(c, author);
+                    return CommentResponseDto.from(c, author,
+                            counterBuffer.overlay(CounterType.COMMENT_LIKE, c.getId(), c.getLikeCount()));
                 })
                 .toList();
 
@@ -388,6 +407,10 @@ public class CommentService {
         if (feed.getVisibility() == FeedVisibility.FOLLOWERS) {
 
         }
-        // TODO : 유저의 차단 관계 같은 것에 따라서 피드가 유저에게 공개되었는지 같은 것들 설정
+
+        // 작성자와 차단 관계면 피드가 없는 것처럼 처리
+        if (userBlockSetCache.isBlocked(userId, feed.getAuthorId())) {
+            throw new BusinessException(ErrorCode.FEED_NOT_FOUND);
+        }
     }
 }
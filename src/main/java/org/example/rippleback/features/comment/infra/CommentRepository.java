@@ -4,7 +4,6 @@ import org.example.rippleback.features.comment.domain.Comment;
 import org.example.rippleback.features.comment.domain.CommentVisibility;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,21 +11,6 @@ import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Modifying
-    @Query(value = """
-                UPDATE comment
-                SET like_count = like_count + 1
-                WHERE id = ?1
-            """, nativeQuery = true)
-    int incLikeCount(Long commentId);
-
-    @Modifying
-    @Query(value = """
-                UPDATE comment
-                SET like_count = GREATEST(like_count - 1, 0)
-                WHERE id = ?1
-            """, nativeQuery = true)
-    int decLikeCount(Long commentId);
 
     @Query("""
                 select c from Comment c
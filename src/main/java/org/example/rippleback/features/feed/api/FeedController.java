@@ -72,10 +72,12 @@ public class FeedController {
     }
 
     @GetMapping("/viewed")
-    public List<FeedResponseDto> getUserAllFeeds(
-            @AuthenticationPrincipal JwtPrincipal principal
+    public FeedPageDto getViewedFeeds(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int limit
     ) {
-        return feedService.getUserAllFeeds(principal.userId());
+        return feedService.getViewedFeeds(principal.userId(), cursor, limit);
     }
 
     @GetMapping("/home")
@@ -125,14 +127,17 @@ public class FeedController {
     }
 
     @GetMapping("/search/tag")
-    public List<String> searchTags(@RequestParam String query) {
-        return feedService.searchTags(query);
+    public List<String> searchTags(@RequestParam String query,
+                                   @RequestParam(defaultValue = "10") int limit) {
+        return feedService.searchTags(query, limit);
     }
 
     @GetMapping("/tag/{tagName}")
-    public List<FeedResponseDto> getFeedsByTag(@Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal p,
-                                               @PathVariable String tagName
+    public FeedPageDto getFeedsByTag(@Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal p,
+                                     @PathVariable String tagName,
+                                     @RequestParam(required = false) Long cursor,
+                                     @RequestParam(defaultValue = "10") int limit
     ) {
-        return feedService.getFeedsByTag(p.userId(), tagName);
+        return feedService.getFeedsByTag(p.userId(), tagName, cursor, limit);
     }
 }
@@ -19,4 +19,13 @@ public record FeedResponseDto(
         FeedStatus feedStatus,
         FeedVisibility visibility,
         Instant createdAt
-) {}
+) {
+    // viewer 별로 작성자 팔로우 여부만 바꾼 카드
+    public FeedResponseDto withAuthorFollowing(boolean following) {
+        UserProfileSummaryResponseDto a = author == null
+                ? null
+                : new UserProfileSummaryResponseDto(author.id(), author.username(), author.profileImageUrl(), following);
+        return new FeedResponseDto(id, a, content, tags, likeCount, bookmarkCount, commentCount, viewCount,
+                thumbnailUrl, feedStatus, visibility, createdAt);
+    }
+}
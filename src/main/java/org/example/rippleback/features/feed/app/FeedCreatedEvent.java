@@ -0,0 +1,7 @@
+package org.example.rippleback.features.feed.app;
+
+// 피드 생성 트랜잭션 커밋 후 처리(홈 타임라인 fan-out 등)를 위한 이벤트
+public record FeedCreatedEvent(
+        Long feedId,
+        Long authorId
+) {}
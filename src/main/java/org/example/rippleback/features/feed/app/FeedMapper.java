@@ -6,6 +6,8 @@ import org.example.rippleback.features.feed.domain.Feed;
 import org.example.rippleback.features.media.app.MediaUrlResolver;
 import org.example.rippleback.features.media.domain.Media;
 import org.example.rippleback.features.user.app.UserMapper;
+import org.example.rippleback.infra.counter.CounterBuffer;
+import org.example.rippleback.infra.counter.CounterType;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,6 +15,7 @@ import org.springframework.stereotype.Component;
 public class FeedMapper {
 
     private final UserMapper userMapper;
+    private final CounterBuffer counterBuffer;
 
     public FeedResponseDto toResponse(Feed feed, MediaUrlResolver resolver, boolean isFollow) {
         String thumbnailUrl = null;
@@ -30,10 +33,10 @@ public class FeedMapper {
                 userMapper.toSummary(feed.getAuthor(), isFollow),
                 feed.getContent(),
                 feed.getTagsNorm(),
-                feed.getLikeCount(),
-                feed.getBookmarkCount(),
-                feed.getCommentCount(),
-                feed.getViewCount(),
+                counterBuffer.overlay(CounterType.FEED_LIKE, feed.getId(), feed.getLikeCount()),
+                counterBuffer.overlay(CounterType.FEED_BOOKMARK, feed.getId(), feed.getBookmarkCount()),
+                counterBuffer.overlay(CounterType.FEED_COMMENT, feed.getId(), feed.getCommentCount()),
+                counterBuffer.overlay(CounterType.FEED_VIEW, feed.getId(), feed.getViewCount()),
                 thumbnailUrl,
                 feed.getStatus(),
                 feed.getVisibility(),
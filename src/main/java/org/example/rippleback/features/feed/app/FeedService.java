@@ -1,5 +1,7 @@
 package org.example.rippleback.features.feed.app;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.example.rippleback.core.error.BusinessException;
@@ -12,15 +14,20 @@ import org.example.rippleback.features.media.domain.Media;
 import org.example.rippleback.features.media.domain.MediaType;
 import org.example.rippleback.features.media.infra.MediaRepository;
 import org.example.rippleback.features.user.domain.User;
+import org.example.rippleback.features.user.app.UserBlockSetCache;
+import org.example.rippleback.features.user.app.UserStatsService;
 import org.example.rippleback.features.user.domain.UserFollow;
-import org.example.rippleback.features.user.infra.UserBlockRepository;
 import org.example.rippleback.features.user.infra.UserFollowRepository;
 import org.example.rippleback.features.user.infra.UserRepository;
+import org.example.rippleback.infra.counter.CounterBuffer;
+import org.example.rippleback.infra.counter.CounterType;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
@@ -45,6 +52,13 @@ public class FeedService {
     private static final int MIN_FEED_VIDEO_DURATION_SEC = 3;
     private static final int MAX_FEED_VIDEO_DURATION_SEC = 180;
 
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+    private static final Duration LATEST_BY_AUTHOR_TTL = Duration.ofSeconds(30);
+
+    private static final String VIEWER_FLAG_VIEWED = "VIEWED";
+    private static final String VIEWER_FLAG_LIKED = "LIKED";
+    private static final String VIEWER_FLAG_BOOKMARKED = "BOOKMARKED";
+
     private final FeedRepository feedRepository;
     private final FeedLikeRepository feedLikeRepository;
     private final FeedBookmarkRepository feedBookmarkRepository;
@@ -52,7 +66,7 @@ public class FeedService {
     private final FeedMapper feedMapper;
     private final MediaUrlResolver mediaUrlResolver;
     private final UserFollowRepository userFollowRepository;
-    private final UserBlockRepository userBlockRepository;
+    private final UserBlockSetCache userBlockSetCache;
     private final FeedViewHistoryRepository feedViewHistoryRepository;
     private final UserRepository userRepository;
     private final FeedTagRelationRepository feedTagRelationRepository;
@@ -60,11 +74,23 @@ public class FeedService {
 
     private final FeedMediaRepository feedMediaRepository;
     private final MediaRepository mediaRepository;
+    private final HomeTimelineService homeTimelineService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CounterBuffer counterBuffer;
+    private final FeedViewPipeline feedViewPipeline;
+    private final UserStatsService userStatsService;
+    private final TagPrefixIndex tagPrefixIndex;
 
     private final S3Presigner s3Presigner;
     private final Clock clock;
     private final EntityManager em;
 
+    // 프로필 최신 피드 카드 (작성자별, 짧은 TTL)
+    private final Cache<Long, List<FeedResponseDto>> latestByAuthorCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(LATEST_BY_AUTHOR_TTL)
+            .build();
+
     @Value("${media.bucket}")
     private String mediaBucket;
 
@@ -283,7 +309,12 @@ public class FeedService {
         // 4) 태그 관계 저장(기존 유지)
         saveTagRelations(feed.getId(), request.tags());
 
-        // 5) 썸네일 무결성 체크(선택 정책: 첫 이미지 = 썸네일)
+        // 5) 커밋 후 팔로워 홈 타임라인에 반영
+        eventPublisher.publishEvent(new FeedCreatedEvent(feed.getId(), userId));
+        userStatsService.postCreated(userId);
+        evictLatestAfterCommit(userId);
+
+        // 6) 썸네일 무결성 체크(선택 정책: 첫 이미지 = 썸네일)
         em.flush();
 
         em.refresh(feed);
@@ -392,6 +423,11 @@ public class FeedService {
         // 4) 태그 관계 저장
         saveTagRelations(feed.getId(), request.tags());
 
+        // 5) 커밋 후 팔로워 홈 타임라인에 반영
+        eventPublisher.publishEvent(new FeedCreatedEvent(feed.getId(), userId));
+        userStatsService.postCreated(userId);
+        evictLatestAfterCommit(userId);
+
         em.flush();
         em.refresh(feed);
 
@@ -422,12 +458,19 @@ public class FeedService {
             throw new BusinessException(ErrorCode.INVALID_DELETE_OTHER);
         }
 
+        if (feed.getStatus() == FeedStatus.PUBLISHED) {
+            userStatsService.postsDeleted(userId, 1);
+        }
         feed.softDelete();
+        evictLatestAfterCommit(userId);
     }
 
     public void deleteAllByAuthorId(Long authorId) {
         List<Feed> feeds = feedRepository.findByAuthorId(authorId);
+        long published = feeds.stream().filter(f -> f.getStatus() == FeedStatus.PUBLISHED).count();
         feeds.forEach(Feed::softDelete);
+        userStatsService.postsDeleted(authorId, published);
+        evictLatestAfterCommit(authorId);
     }
 
     public FeedResponseDto getFeed(Long feedId, Long viewerId) {
@@ -435,7 +478,7 @@ public class FeedService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.FEED_NOT_FOUND));
 
         Long authorId = feed.getAuthorId();
-        boolean blocked = userBlockRepository.existsByBlockerIdAndBlockedId(authorId, viewerId);
+        boolean blocked = userBlockSetCache.isBlocked(viewerId, authorId);
 
         if (blocked) {
             throw new BusinessException(ErrorCode.USER_NOT_FOUND);
@@ -448,11 +491,43 @@ public class FeedService {
         return feedMapper.toResponse(feed, mediaUrlResolver, following);
     }
 
-    public List<FeedResponseDto> getUserAllFeeds(Long viewerId) {
-        List<Feed> feeds = feedRepository.findAllPublished();
+    // 내가 본 피드 목록: feed_view_history 를 조회순 keyset 으로 읽고, 피드/작성자/팔로우 여부는 배치로 로딩
+    @Transactional(readOnly = true)
+    public FeedPageDto getViewedFeeds(Long viewerId, Long cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_FEED_PAGE_SIZE));
+        PageRequest page = PageRequest.of(0, size + 1);
+
+        List<FeedViewHistory> histories;
+        if (cursor == null) {
+            histories = feedViewHistoryRepository.findRecentByUserId(viewerId, page);
+        } else {
+            FeedViewHistory last = feedViewHistoryRepository.findById(cursor)
+                    .filter(h -> h.getUserId().equals(viewerId))
+                    .orElse(null);
+            if (last == null) return new FeedPageDto(List.of(), null, false);
+            histories = feedViewHistoryRepository.findRecentByUserIdAfter(viewerId, last.getViewedAt(), last.getId(), page);
+        }
+
+        boolean hasNext = histories.size() > size;
+        if (hasNext) {
+            histories = histories.subList(0, size);
+        }
+
+        Long nextCursor = histories.isEmpty() ? null : histories.getLast().getId();
 
-        List<Feed> filtered = feeds.stream()
-                .filter(feed -> feedViewHistoryRepository.existsByUserIdAndFeedId(viewerId, feed.getId()))
+        List<Long> feedIds = histories.stream().map(FeedViewHistory::getFeedId).toList();
+        Map<Long, Feed> feedMap = new HashMap<>();
+        if (!feedIds.isEmpty()) {
+            for (Feed f : feedRepository.findByIdIn(feedIds)) feedMap.put(f.getId(), f);
+        }
+
+        Set<Long> blockedIds = userBlockSetCache.blockedWith(viewerId);
+
+        // 조회순 유지 (삭제/비공개 전환된 피드와 차단 관계 작성자는 제외)
+        List<Feed> filtered = feedIds.stream()
+                .map(feedMap::get)
+                .filter(Objects::nonNull)
+                .filter(feed -> !blockedIds.contains(feed.getAuthorId()))
                 .toList();
 
         Set<Long> authorIds = filtered.stream()
@@ -461,29 +536,39 @@ public class FeedService {
 
         Set<Long> followingIds = findFollowingIds(viewerId, authorIds);
 
-        return filtered.stream()
-                .map(f -> feedMapper.toResponse(
-                        f,
-                        mediaUrlResolver,
-                        isFollowing(viewerId, f.getAuthorId(), followingIds)
-                ))
-                .toList();
+        return new FeedPageDto(
+                filtered.stream()
+                        .map(f -> feedMapper.toResponse(
+                                f,
+                                mediaUrlResolver,
+                                isFollowing(viewerId, f.getAuthorId(), followingIds)
+                        ))
+                        .toList(),
+                nextCursor,
+                hasNext
+        );
     }
 
     public FeedPageDto getHomeFeeds(Long viewerId, Long cursor, int limit) {
-        Pageable pageable = PageRequest.of(0, limit + 1);
-        List<Feed> feeds = feedRepository.findFeedsForHome(cursor, pageable);
+        int size = Math.max(1, Math.min(limit, MAX_FEED_PAGE_SIZE));
 
-        List<Feed> filtered = feeds.stream()
-                .filter(feed -> !userBlockRepository.existsAnyBlock(viewerId, feed.getAuthorId()))
-                .toList();
+        // 타임라인(inbox)에서 id 만 읽고, 본문은 한 번의 IN 쿼리로 로딩
+        List<Long> ids = homeTimelineService.readPage(viewerId, cursor, size + 1);
 
-        boolean hasNext = filtered.size() > limit;
+        boolean hasNext = ids.size() > size;
         if (hasNext) {
-            filtered = filtered.subList(0, limit);
+            ids = ids.subList(0, size);
         }
 
-        Long nextCursor = filtered.isEmpty() ? null : filtered.getLast().getId();
+        Long nextCursor = ids.isEmpty() ? null : ids.getLast();
+
+        List<Feed> feeds = ids.isEmpty() ? List.of() : feedRepository.findByIdIn(ids);
+
+        // 차단 관계는 viewer 의 차단 집합 한 번으로 메모리에서 필터링
+        Set<Long> blockedIds = userBlockSetCache.blockedWith(viewerId);
+        List<Feed> filtered = feeds.stream()
+                .filter(feed -> !blockedIds.contains(feed.getAuthorId()))
+                .toList();
 
         Set<Long> authorIds = filtered.stream().map(Feed::getAuthorId).collect(java.util.stream.Collectors.toSet());
         Set<Long> followingIds = findFollowingIds(viewerId, authorIds);
@@ -499,17 +584,32 @@ public class FeedService {
 
     // 유저 프로필 페이지에서 가장 최근 제작한 피드 보여주기에 사용하는 메서드 (최소 0, 최대 4)
     @Transactional(readOnly = true)
-    public List<FeedResponseDto> getLatestByAuthor(Long viewerId, Long authorId) {
-        final int limit = 4; // 프로필 페이지: 최대 4개 고정
-        var page = PageRequest.of(0, limit);
+    // following: 프로필 조회 쪽에서 이미 확인한 viewer -> author 팔로우 여부
+    public List<FeedResponseDto> getLatestByAuthor(Long viewerId, Long authorId, boolean following) {
+        if (userBlockSetCache.isBlocked(viewerId, authorId)) return List.of();
+
+        // 카드 목록은 작성자 기준으로 캐시하고, viewer 별 팔로우 여부만 덮어씀
+        // (JPA 조회를 Caffeine compute 안에서 하지 않도록 getIfPresent -> put)
+        List<FeedResponseDto> cards = latestByAuthorCache.getIfPresent(authorId);
+        if (cards == null) {
+            cards = loadLatestByAuthor(authorId);
+            latestByAuthorCache.put(authorId, cards);
+        }
 
-        var feeds = feedRepository.findLatestPublishedByAuthorId(authorId, page);
+        boolean isFollow = following && !authorId.equals(viewerId);
+        if (!isFollow) return cards;
 
-        Set<Long> followingIds = findFollowingIds(viewerId, java.util.List.of(authorId));
-        boolean following = isFollowing(viewerId, authorId, followingIds);
+        return cards.stream()
+                .map(card -> card.withAuthorFollowing(true))
+                .toList();
+    }
+
+    private List<FeedResponseDto> loadLatestByAuthor(Long authorId) {
+        final int limit = 4; // 프로필 페이지: 최대 4개 고정
+        var page = PageRequest.of(0, limit);
 
-        return feeds.stream()
-                .map(f -> feedMapper.toResponse(f, mediaUrlResolver, following))
+        return feedRepository.findLatestPublishedByAuthorId(authorId, page).stream()
+                .map(f -> feedMapper.toResponse(f, mediaUrlResolver, false))
                 .toList();
     }
 
@@ -522,36 +622,38 @@ public class FeedService {
      * 반드시 feedService.getFeedFullView(principal.userId(), feedId)로 고쳐야 합니다.
      */
     public FeedFullViewDto getFeedFullView(Long userId, Long feedId) {
-        Feed feed = feedRepository.findById(feedId)
+        // 1) 피드 + 작성자 + 미디어 한 번에 (fetch join)
+        Feed feed = feedRepository.findFullViewById(feedId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FEED_NOT_FOUND));
 
-        boolean hasViewed = feedViewHistoryRepository.existsByUserIdAndFeedId(userId, feedId);
+        if (userBlockSetCache.isBlocked(userId, feed.getAuthorId())) {
+            throw new BusinessException(ErrorCode.FEED_NOT_FOUND);
+        }
 
-        if (!hasViewed) {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        // 2) viewer 상태(조회 이력/좋아요/북마크) 한 번에
+        List<String> viewerFlags = feedRepository.findViewerFlags(feedId, userId);
 
-            if (user.getCredits() <= 0) {
+        if (!viewerFlags.contains(VIEWER_FLAG_VIEWED)) {
+            // 첫 조회만 과금: 동시에 들어온 요청은 히스토리를 먼저 넣은 쪽만 차감 (잔액 부족이면 롤백)
+            boolean firstView = feedViewHistoryRepository.insertIfAbsent(userId, feedId, Instant.now(clock)) > 0;
+            if (firstView && userRepository.decreaseCredits(userId, 1) == 0) {
                 throw new BusinessException(ErrorCode.NOT_ENOUGH_CREDITS);
             }
-
-            user.decreaseCredits(1);
-            feedViewHistoryRepository.save(FeedViewHistory.builder()
-                    .userId(userId)
-                    .feedId(feedId)
-                    .viewedAt(Instant.now())
-                    .build());
         }
 
-        boolean liked = feedLikeRepository.existsByFeedIdAndUserId(feedId, userId);
-        boolean bookmarked = feedBookmarkRepository.existsByFeedIdAndUserId(feedId, userId);
+        // 조회수/최근 조회 시각은 비동기 파이프라인에서 집계 (첫 조회 과금과 히스토리 생성만 동기 처리)
+        feedViewPipeline.record(userId, feedId);
+
+        boolean liked = viewerFlags.contains(VIEWER_FLAG_LIKED);
+        boolean bookmarked = viewerFlags.contains(VIEWER_FLAG_BOOKMARKED);
 
         String videoHlsUrl = null;
         String videoSourceUrl = null;
         List<String> imageUrls = new ArrayList<>();
 
-        // Media까지 확실히 fetch (N+1 방지 목적)
-        List<FeedMedia> medias = feedMediaRepository.findWithMediaByFeedId(feedId);
+        List<FeedMedia> medias = feed.getFeedMedias().stream()
+                .sorted(Comparator.comparingInt(FeedMedia::getSortOrder))
+                .toList();
 
         for (FeedMedia fm : medias) {
             Media m = fm.getMedia();
@@ -571,11 +673,8 @@ public class FeedService {
             }
         }
 
-        List<String> tagNames = feedTagRelationRepository.findByFeedId(feedId)
-                .stream()
-                .map(rel -> tagRepository.findById(rel.getTagId()).orElseThrow())
-                .map(FeedTag::getName)
-                .toList();
+        // 태그는 피드에 정규화해서 저장해둔 tags_norm 사용
+        List<String> tagNames = feed.getTagsNorm() == null ? List.of() : List.of(feed.getTagsNorm());
 
         return FeedFullViewDto.builder()
                 .id(feed.getId())
@@ -586,10 +685,10 @@ public class FeedService {
                 .videoHlsUrl(videoHlsUrl)
                 .videoSourceUrl(videoSourceUrl)
                 .tags(tagNames)
-                .likeCount(feed.getLikeCount())
-                .bookmarkCount(feed.getBookmarkCount())
-                .commentCount(feed.getCommentCount())
-                .viewCount(feed.getViewCount())
+                .likeCount(counterBuffer.overlay(CounterType.FEED_LIKE, feed.getId(), feed.getLikeCount()))
+                .bookmarkCount(counterBuffer.overlay(CounterType.FEED_BOOKMARK, feed.getId(), feed.getBookmarkCount()))
+                .commentCount(counterBuffer.overlay(CounterType.FEED_COMMENT, feed.getId(), feed.getCommentCount()))
+                .viewCount(counterBuffer.overlay(CounterType.FEED_VIEW, feed.getId(), feed.getViewCount()))
                 .liked(liked)
                 .bookmarked(bookmarked)
                 .createdAt(feed.getCreatedAt())
@@ -632,7 +731,7 @@ public class FeedService {
 
         FeedLike like = FeedLike.create(feed, userId);
         feedLikeRepository.save(like);
-        feedRepository.incrementLikeCount(feedId);
+        counterBuffer.increment(CounterType.FEED_LIKE, feedId);
     }
 
     public void removeLike(Long userId, Long feedId) {
@@ -640,11 +739,9 @@ public class FeedService {
             throw new BusinessException(ErrorCode.INVALID_LIKE_STATE);
         }
 
-        feedLikeRepository.deleteByUserIdAndFeedId(userId, feedId);
-
-        int updated = feedRepository.decrementLikeCount(feedId);
-        if (updated == 0) {
-            throw new BusinessException(ErrorCode.INVALID_LIKE_STATE);
+        // 동시에 취소된 경우 한 번만 차감
+        if (feedLikeRepository.deleteByUserIdAndFeedId(userId, feedId) > 0) {
+            counterBuffer.decrement(CounterType.FEED_LIKE, feedId);
         }
     }
 
@@ -658,7 +755,7 @@ public class FeedService {
 
         FeedBookmark bookmark = FeedBookmark.create(feed, userId);
         feedBookmarkRepository.save(bookmark);
-        feedRepository.incrementBookmarkCount(feedId);
+        counterBuffer.increment(CounterType.FEED_BOOKMARK, feedId);
     }
 
     public void removeBookmark(Long userId, Long feedId) {
@@ -666,49 +763,71 @@ public class FeedService {
             throw new BusinessException(ErrorCode.INVALID_BOOKMARK_STATE);
         }
 
-        feedBookmarkRepository.deleteByUserIdAndFeedId(userId, feedId);
-
-        int updated = feedRepository.decrementBookmarkCount(feedId);
-        if (updated == 0) {
-            throw new BusinessException(ErrorCode.INVALID_BOOKMARK_STATE);
+        if (feedBookmarkRepository.deleteByUserIdAndFeedId(userId, feedId) > 0) {
+            counterBuffer.decrement(CounterType.FEED_BOOKMARK, feedId);
         }
     }
 
-    public List<String> searchTags(String keyword) {
-        return tagRepository.searchByKeyword(keyword.toLowerCase().trim())
-                .stream()
-                .map(FeedTag::getName)
-                .toList();
+    // 태그 자동완성: 메모리 인덱스에서 사용 횟수 순 top-K
+    public List<String> searchTags(String keyword, int limit) {
+        return tagPrefixIndex.search(keyword, limit);
     }
 
-    public List<FeedResponseDto> getFeedsByTag(Long viewerId, String tagName) {
+    @Transactional(readOnly = true)
+    public FeedPageDto getFeedsByTag(Long viewerId, String tagName, Long cursor, int limit) {
         FeedTag tag = tagRepository.findByName(tagName.toLowerCase().trim())
                 .orElseThrow(() -> new BusinessException(ErrorCode.TAG_NOT_FOUND));
 
-        List<Long> feedIds = feedTagRelationRepository.findFeedIdsByTagId(tag.getId());
-        if (feedIds == null || feedIds.isEmpty()) return List.of();
+        int size = Math.max(1, Math.min(limit, MAX_FEED_PAGE_SIZE));
 
-        List<Feed> feeds = feedRepository.findByIdIn(feedIds);
+        // 태그-피드 관계에서 한 페이지 분량의 id 만 읽고, 본문은 한 번의 IN 쿼리로 로딩
+        List<Long> ids = feedTagRelationRepository.findPublishedFeedIdsByTagId(
+                tag.getId(), cursor, PageRequest.of(0, size + 1));
 
-        Set<Long> authorIds = feeds.stream()
-                .map(Feed::getAuthorId)
-                .collect(java.util.stream.Collectors.toSet());
+        boolean hasNext = ids.size() > size;
+        if (hasNext) {
+            ids = ids.subList(0, size);
+        }
 
-        Set<Long> followingIds = findFollowingIds(viewerId, authorIds);
+        // 차단 필터로 일부가 빠져도 다음 페이지는 마지막으로 읽은 id 부터
+        Long nextCursor = ids.isEmpty() ? null : ids.getLast();
 
-        return feeds.stream()
-                .map(f -> feedMapper.toResponse(
-                        f,
-                        mediaUrlResolver,
-                        isFollowing(viewerId, f.getAuthorId(), followingIds)
-                ))
+        List<Feed> feeds = ids.isEmpty() ? List.of() : feedRepository.findByIdIn(ids);
+
+        Set<Long> blockedIds = userBlockSetCache.blockedWith(viewerId);
+        List<Feed> filtered = feeds.stream()
+                .filter(feed -> !blockedIds.contains(feed.getAuthorId()))
                 .toList();
+
+        Set<Long> authorIds = filtered.stream().map(Feed::getAuthorId).collect(java.util.stream.Collectors.toSet());
+        Set<Long> followingIds = findFollowingIds(viewerId, authorIds);
+
+        return new FeedPageDto(
+                filtered.stream()
+                        .map(f -> feedMapper.toResponse(f, mediaUrlResolver, isFollowing(viewerId, f.getAuthorId(), followingIds)))
+                        .toList(),
+                nextCursor,
+                hasNext
+        );
     }
 
     // -----------------------
     // helpers
     // -----------------------
 
+    private void evictLatestAfterCommit(Long authorId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            latestByAuthorCache.invalidate(authorId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                latestByAuthorCache.invalidate(authorId);
+            }
+        });
+    }
+
     private void saveTagRelations(Long feedId, List<String> tags) {
         if (tags == null) return;
 
@@ -728,6 +847,7 @@ public class FeedService {
                             .tagId(tag.getId())
                             .build()
             );
+            tagPrefixIndex.recordUsage(tagName);
         }
     }
 
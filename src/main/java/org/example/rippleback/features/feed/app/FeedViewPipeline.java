@@ -0,0 +1,202 @@
+package org.example.rippleback.features.feed.app;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.rippleback.infra.counter.CounterBuffer;
+import org.example.rippleback.infra.counter.CounterType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 피드 조회수 집계 파이프라인
+ * - 요청 스레드는 조회 이벤트를 큐에 넣기만 함 (가득 차면 버림)
+ * - 백그라운드 drain 에서 (user, feed) 별로 일정 시간 안의 중복 조회를 걸러 조회수(FEED_VIEW)에 더하고
+ *   feed_view_history 를 batch upsert 로 갱신
+ * - viewed_at 은 처음 본 시각으로 고정 ("내가 본 피드" keyset 정렬 키라 바뀌면 페이지가 흔들림),
+ *   다시 본 시각은 last_viewed_at 에만 반영
+ * - drain 한 번에 큐가 빌 때까지(또는 drain-budget 까지) batch 를 반복하므로 처리량이 batch 크기 x 주기로 묶이지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedViewPipeline {
+
+    private static final int DRAIN_BATCH_SIZE = 5_000;
+    private static final int MAX_DEDUPE_ENTRIES = 200_000;
+
+    private static final String UPSERT_HISTORY_SQL = """
+            INSERT INTO feed_view_history (user_id, feed_id, viewed_at, last_viewed_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (user_id, feed_id)
+            DO UPDATE SET last_viewed_at = GREATEST(
+                    COALESCE(feed_view_history.last_viewed_at, feed_view_history.viewed_at),
+                    EXCLUDED.last_viewed_at)
+            """;
+
+    private record ViewEvent(long userId, long feedId, Instant viewedAt) {
+    }
+
+    private record ViewKey(long userId, long feedId) {
+    }
+
+    // batch 안에서 (user, feed) 별 처음/마지막 조회 시각
+    private record Seen(Instant first, Instant last) {
+        Seen merge(Seen other) {
+            return new Seen(first.isBefore(other.first) ? first : other.first,
+                    last.isAfter(other.last) ? last : other.last);
+        }
+    }
+
+    private final CounterBuffer counterBuffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    private final ConcurrentLinkedQueue<ViewEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+
+    // drain 은 DB I/O 를 포함하므로 synchronized 대신 사용 (virtual thread pinning 방지)
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    // 마지막으로 조회수에 반영한 시각 (drain 스레드만 접근, 오래된 순서 유지)
+    private final LinkedHashMap<ViewKey, Instant> lastCounted = new LinkedHashMap<>(1024, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ViewKey, Instant> eldest) {
+            return size() > MAX_DEDUPE_ENTRIES;
+        }
+    };
+
+    @Value("${app.feed.view.queue-capacity:100000}")
+    private int capacity;
+
+    @Value("${app.feed.view.dedupe-window:30m}")
+    private Duration dedupeWindow;
+
+    @Value("${app.feed.view.drain-budget:5s}")
+    private Duration drainBudget;
+
+    // 트랜잭션 안이면 커밋된 뒤에 큐에 넣는다
+    public void record(Long userId, Long feedId) {
+        if (userId == null || feedId == null) return;
+        ViewEvent event = new ViewEvent(userId, feedId, clock.instant());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offer(event);
+            }
+        });
+    }
+
+    private void offer(ViewEvent event) {
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        queue.offer(event);
+    }
+
+    @Scheduled(fixedDelayString = "${app.feed.view.drain-interval-ms:1000}")
+    public void drain() {
+        drainLock.lock();
+        try {
+            long droppedSinceLast = dropped.sumThenReset();
+            if (droppedSinceLast > 0) {
+                log.warn("feed view queue full, dropped {} events", droppedSinceLast);
+            }
+
+            // 남은 건 budget 을 넘기면 다음 주기로 (스케줄러 스레드를 무한정 잡지 않도록)
+            long deadline = System.nanoTime() + drainBudget.toNanos();
+            int drained;
+            do {
+                drained = drainBatch();
+            } while (drained == DRAIN_BATCH_SIZE && System.nanoTime() < deadline);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    // 처리한 이벤트 수
+    private int drainBatch() {
+        Map<ViewKey, Seen> seen = new HashMap<>();
+        int polled = 0;
+        ViewEvent event;
+        while (polled < DRAIN_BATCH_SIZE && (event = queue.poll()) != null) {
+            polled++;
+            ViewKey key = new ViewKey(event.userId(), event.feedId());
+            seen.merge(key, new Seen(event.viewedAt(), event.viewedAt()), Seen::merge);
+            countIfOutsideWindow(key, event.viewedAt());
+        }
+        if (polled == 0) return 0;
+        queued.addAndGet(-polled);
+
+        evictExpired();
+        upsertHistory(seen);
+        return polled;
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        while (queued.get() > 0) {
+            int before = queued.get();
+            drain();
+            if (queued.get() >= before) break;
+        }
+    }
+
+    private void countIfOutsideWindow(ViewKey key, Instant viewedAt) {
+        Instant last = lastCounted.get(key);
+        if (last != null && viewedAt.isBefore(last.plus(dedupeWindow))) return;
+
+        counterBuffer.add(CounterType.FEED_VIEW, key.feedId(), 1);
+        // 최신 시각이 뒤쪽에 오도록 다시 넣음
+        lastCounted.remove(key);
+        lastCounted.put(key, viewedAt);
+    }
+
+    private void evictExpired() {
+        Instant threshold = clock.instant().minus(dedupeWindow);
+        Iterator<Map.Entry<ViewKey, Instant>> it = lastCounted.entrySet().iterator();
+        while (it.hasNext()) {
+            if (!it.next().getValue().isBefore(threshold)) break;
+            it.remove();
+        }
+    }
+
+    private void upsertHistory(Map<ViewKey, Seen> seen) {
+        // 같은 row 를 여러 노드가 갱신할 때 데드락이 나지 않도록 (user, feed) 순으로 정렬
+        List<Object[]> rows = seen.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<ViewKey, Seen> e) -> e.getKey().userId())
+                        .thenComparingLong(e -> e.getKey().feedId()))
+                .map(e -> new Object[]{e.getKey().userId(), e.getKey().feedId(),
+                        Timestamp.from(e.getValue().first()), Timestamp.from(e.getValue().last())})
+                .toList();
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_HISTORY_SQL, rows);
+        } catch (RuntimeException e) {
+            // 조회 시각 갱신은 best-effort (조회수는 이미 CounterBuffer 에 반영됨)
+            log.warn("feed view history upsert failed. size={}", rows.size(), e);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.rippleback.features.feed.app;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.rippleback.features.feed.infra.FeedRepository;
+import org.example.rippleback.features.feed.infra.HomeTimelineStore;
+import org.example.rippleback.features.user.infra.UserFollowRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 홈 타임라인 (fan-out-on-write + 팔로워가 많은 작성자는 fan-out-on-read)
+ * - 피드 생성 커밋 후 작성자 팔로워들의 inbox 에 feedId 를 push
+ * - 팔로워 수가 임계치를 넘는 작성자는 push 하지 않고, 조회 시점에 해당 작성자의 최신 피드를 합친다
+ * - inbox 가 없으면(만료/신규) 조회 시 DB 에서 한 번 재구성
+ * - inbox 는 최근 inboxSize 개만 유지하므로, 가득 찬 inbox 를 다 읽은 뒤의 페이지는 DB 에서 이어서 조회
+ * - 아무도 팔로우하지 않는 유저는 inbox 를 만들지 않고 전체 최신 피드를 보여준다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeTimelineService {
+
+    private final HomeTimelineStore store;
+    private final FeedRepository feedRepository;
+    private final UserFollowRepository userFollowRepository;
+
+    @Value("${app.feed.home.fanout-threshold:5000}")
+    private int fanoutThreshold;
+
+    @Value("${app.feed.home.inbox-size:800}")
+    private int inboxSize;
+
+    @Value("${app.feed.home.inbox-ttl:72h}")
+    private Duration inboxTtl;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFeedCreated(FeedCreatedEvent event) {
+        try {
+            fanOut(event.authorId(), event.feedId());
+        } catch (DataAccessException e) {
+            // 누락된 inbox 는 만료 후 재구성 시 채워지므로 요청은 실패시키지 않음
+            log.warn("home timeline fan-out failed. feedId={}", event.feedId(), e);
+        }
+    }
+
+    /**
+     * viewer 의 홈 타임라인에서 cursor 이후 feedId 를 최신순으로 최대 count 개 반환
+     */
+    public List<Long> readPage(Long viewerId, Long cursor, int count) {
+        List<Long> inbox;
+        List<Long> pulled;
+        try {
+            inbox = readInbox(viewerId, cursor, count);
+            pulled = pullFromCelebrities(viewerId, cursor, count);
+        } catch (DataAccessException e) {
+            log.warn("home timeline read failed, falling back to db. viewerId={}", viewerId, e);
+            inbox = userFollowRepository.existsByFollowerId(viewerId)
+                    ? feedRepository.findHomeTimelineSeedIds(viewerId, cursor, PageRequest.of(0, count))
+                    : null;
+            pulled = List.of();
+        }
+
+        if (inbox == null) {
+            // 아무도 팔로우하지 않거나 볼 피드가 하나도 없는 유저는 전체 최신 피드로 채운다
+            if (pulled.isEmpty()) return feedRepository.findRecentPublishedIds(cursor, PageRequest.of(0, count));
+            inbox = List.of();
+        }
+
+        if (pulled.isEmpty()) return inbox;
+
+        TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+        merged.addAll(inbox);
+        merged.addAll(pulled);
+        return merged.stream().limit(count).toList();
+    }
+
+    // 팔로우/언팔로우/차단 이후에는 inbox 를 버리고 다음 조회 때 재구성
+    public void invalidate(Long... userIds) {
+        Runnable evict = () -> {
+            try {
+                for (Long id : userIds) store.evict(id);
+            } catch (DataAccessException e) {
+                log.warn("home timeline evict failed. userIds={}", Arrays.toString(userIds), e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    // -----------------------
+    // helpers
+    // -----------------------
+
+    private void fanOut(Long authorId, Long feedId) {
+        List<Long> followerIds = userFollowRepository.findFollowerIds(authorId, PageRequest.of(0, fanoutThreshold + 1));
+
+        List<Long> recipients = new ArrayList<>(Math.min(followerIds.size(), fanoutThreshold) + 1);
+        recipients.add(authorId);
+
+        if (followerIds.size() > fanoutThreshold) {
+            // 팔로워가 많은 작성자는 조회 시점에 pull
+            store.markCelebrity(authorId);
+        } else {
+            recipients.addAll(followerIds);
+        }
+
+        store.push(recipients, feedId, inboxSize);
+    }
+
+    // 아무도 팔로우하지 않거나 inbox 에 담을 피드가 하나도 없는 유저면 null
+    private List<Long> readInbox(Long viewerId, Long cursor, int count) {
+        List<Long> page = store.readPage(viewerId, cursor, count);
+        if (page.size() == count) return page;
+
+        if (store.exists(viewerId)) {
+            // 가득 찬 inbox 는 오래된 피드가 잘려 나갔을 수 있으므로 모자란 만큼 DB 에서 이어서 조회
+            if (store.size(viewerId) < inboxSize) return page;
+            return fillFromDb(viewerId, cursor, page, count);
+        }
+
+        // 자기 피드만으로 inbox 를 만들면 홈이 내 피드 몇 개로 끝나므로 팔로우가 없으면 만들지 않음
+        if (!userFollowRepository.existsByFollowerId(viewerId)) return null;
+
+        List<Long> seed = feedRepository.findHomeTimelineSeedIds(viewerId, null, PageRequest.of(0, inboxSize));
+        if (seed.isEmpty()) return null;
+
+        store.rebuild(viewerId, seed, inboxTtl);
+
+        List<Long> fromSeed = seed.stream()
+                .filter(id -> cursor == null || id < cursor)
+                .limit(count)
+                .toList();
+        if (fromSeed.size() == count || seed.size() < inboxSize) return fromSeed;
+        return fillFromDb(viewerId, cursor, fromSeed, count);
+    }
+
+    // inbox 에서 읽은 page 뒤를 DB 로 이어 붙임 (page 의 마지막 id 가 다음 cursor)
+    private List<Long> fillFromDb(Long viewerId, Long cursor, List<Long> page, int count) {
+        Long next = page.isEmpty() ? cursor : page.get(page.size() - 1);
+        List<Long> older = feedRepository.findHomeTimelineSeedIds(viewerId, next, PageRequest.of(0, count - page.size()));
+        if (older.isEmpty()) return page;
+        if (page.isEmpty()) return older;
+
+        List<Long> merged = new ArrayList<>(page.size() + older.size());
+        merged.addAll(page);
+        merged.addAll(older);
+        return merged;
+    }
+
+    private List<Long> pullFromCelebrities(Long viewerId, Long cursor, int count) {
+        Set<Long> celebrities = store.celebrities();
+        if (celebrities.isEmpty()) return List.of();
+
+        Set<Long> followed = userFollowRepository.findFollowingIdsIn(viewerId, celebrities);
+        if (followed.isEmpty()) return List.of();
+
+        return feedRepository.findPublishedIdsByAuthorIdIn(followed, cursor, PageRequest.of(0, count));
+    }
+}
@@ -0,0 +1,203 @@
+package org.example.rippleback.features.feed.app;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.rippleback.features.feed.infra.FeedTagRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 태그 자동완성용 메모리 인덱스
+ * - snapshot: 기동 시/주기적으로 tags + 사용 횟수로 만든 정렬 배열 (접두어 범위를 이진 탐색)
+ * - fresh: snapshot 이후 생성/사용된 태그의 증가분 (saveTagRelations 에서 갱신)
+ * - pending: 재빌드 쿼리 직전에 떼어 둔 fresh. 쿼리 결과에 포함되므로 새 snapshot 과 함께 버린다
+ * - 셋을 하나의 불변 State 로 묶어 교체하므로, 쿼리 도중 기록된 증가분(fresh)은 새 snapshot 으로 그대로 넘어간다
+ * - 결과는 사용 횟수 내림차순 top-K
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagPrefixIndex {
+
+    public static final int MAX_LIMIT = 20;
+
+    // 1~2글자 접두어는 범위가 넓어서 빌드 시 top-K 를 미리 계산
+    private static final int SHORT_PREFIX_LENGTH = 2;
+    private static final int MAX_SCAN = 10_000;
+
+    private static final Comparator<Map.Entry<String, Long>> RANK =
+            Map.Entry.<String, Long>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<String, Long>comparingByKey());
+
+    private final FeedTagRepository tagRepository;
+
+    private volatile State state = new State(Snapshot.EMPTY, new ConcurrentSkipListMap<>(), new ConcurrentSkipListMap<>());
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.feed.tag-index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${app.feed.tag-index.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        // afterCommit 에서 기록되므로 지금까지의 증가분은 이어지는 쿼리 결과에 모두 포함된다
+        rotate();
+        try {
+            Map<String, Long> usage = new HashMap<>();
+            for (FeedTagRepository.TagUsage u : tagRepository.findAllUsage()) {
+                usage.put(u.getName(), u.getUsage());
+            }
+            publish(usage);
+        } catch (RuntimeException e) {
+            // pending 은 그대로 두고 다음 재빌드 때 fresh 와 합쳐서 다시 떼어 낸다
+            log.warn("tag prefix index rebuild failed, keeping previous snapshot", e);
+        }
+    }
+
+    // 이전 증가분을 모두 버리고 snapshot 을 교체
+    synchronized void load(Map<String, Long> usage) {
+        rotate();
+        publish(usage);
+    }
+
+    // 현재 fresh(+ 실패한 재빌드의 pending)를 pending 으로 떼어 내고 새 fresh 에 기록 시작
+    private void rotate() {
+        State s = state;
+        if (s.pending().isEmpty()) {
+            state = new State(s.snapshot(), s.fresh(), new ConcurrentSkipListMap<>());
+            return;
+        }
+        ConcurrentSkipListMap<String, LongAdder> pending = new ConcurrentSkipListMap<>(s.pending());
+        s.fresh().forEach((name, delta) -> pending.computeIfAbsent(name, k -> new LongAdder()).add(delta.sum()));
+        state = new State(s.snapshot(), pending, new ConcurrentSkipListMap<>());
+    }
+
+    // 새 snapshot 과 rotate 이후의 fresh 를 한 번에 교체 (pending 은 쿼리 결과에 포함됨)
+    private void publish(Map<String, Long> usage) {
+        Snapshot snapshot = Snapshot.of(usage);
+        state = new State(snapshot, new ConcurrentSkipListMap<>(), state.fresh());
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 반영
+    public void recordUsage(String name) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(name);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(name);
+            }
+        });
+    }
+
+    private void increment(String name) {
+        state.fresh().computeIfAbsent(name, k -> new LongAdder()).increment();
+    }
+
+    public List<String> search(String prefix, int limit) {
+        if (prefix == null) return List.of();
+        String p = prefix.toLowerCase(Locale.ROOT).trim();
+        if (p.isEmpty()) return List.of();
+        int k = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        State current = state;
+        Snapshot snap = current.snapshot();
+
+        // 점수가 가장 낮은 항목이 head 에 오는 크기 k 의 heap
+        PriorityQueue<Map.Entry<String, Long>> heap = new PriorityQueue<>(k + 1, RANK.reversed());
+        Set<String> seen = new HashSet<>();
+        Consumer<String> offer = name -> {
+            if (!seen.add(name)) return;
+            heap.offer(Map.entry(name, snap.count(name) + current.delta(name)));
+            if (heap.size() > k) heap.poll();
+        };
+
+        if (p.length() <= SHORT_PREFIX_LENGTH) {
+            for (String name : snap.topFor(p)) offer.accept(name);
+        } else {
+            snap.forEachInRange(p, MAX_SCAN, offer);
+        }
+        current.pending().subMap(p, true, p + Character.MAX_VALUE, true).keySet().forEach(offer);
+        current.fresh().subMap(p, true, p + Character.MAX_VALUE, true).keySet().forEach(offer);
+
+        List<Map.Entry<String, Long>> ranked = new ArrayList<>(heap);
+        ranked.sort(RANK);
+        return ranked.stream().map(Map.Entry::getKey).toList();
+    }
+
+    private record State(Snapshot snapshot,
+                         ConcurrentSkipListMap<String, LongAdder> pending,
+                         ConcurrentSkipListMap<String, LongAdder> fresh) {
+
+        long delta(String name) {
+            LongAdder p = pending.get(name);
+            LongAdder f = fresh.get(name);
+            return (p == null ? 0 : p.sum()) + (f == null ? 0 : f.sum());
+        }
+    }
+
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new String[0], new long[0], Map.of());
+
+        private final String[] names;   // 오름차순
+        private final long[] counts;
+        private final Map<String, String[]> shortPrefixTop;
+
+        private Snapshot(String[] names, long[] counts, Map<String, String[]> shortPrefixTop) {
+            this.names = names;
+            this.counts = counts;
+            this.shortPrefixTop = shortPrefixTop;
+        }
+
+        static Snapshot of(Map<String, Long> usage) {
+            String[] names = usage.keySet().toArray(String[]::new);
+            Arrays.sort(names);
+            long[] counts = new long[names.length];
+            for (int i = 0; i < names.length; i++) counts[i] = usage.get(names[i]);
+
+            Map<String, PriorityQueue<Map.Entry<String, Long>>> heaps = new HashMap<>();
+            for (int i = 0; i < names.length; i++) {
+                Map.Entry<String, Long> entry = Map.entry(names[i], counts[i]);
+                for (int len = 1; len <= Math.min(SHORT_PREFIX_LENGTH, names[i].length()); len++) {
+                    PriorityQueue<Map.Entry<String, Long>> heap = heaps.computeIfAbsent(
+                            names[i].substring(0, len), x -> new PriorityQueue<>(MAX_LIMIT + 1, RANK.reversed()));
+                    heap.offer(entry);
+                    if (heap.size() > MAX_LIMIT) heap.poll();
+                }
+            }
+
+            Map<String, String[]> top = new HashMap<>(heaps.size());
+            heaps.forEach((prefix, heap) -> top.put(prefix,
+                    heap.stream().map(Map.Entry::getKey).toArray(String[]::new)));
+
+            return new Snapshot(names, counts, top);
+        }
+
+        long count(String name) {
+            int i = Arrays.binarySearch(names, name);
+            return i >= 0 ? counts[i] : 0;
+        }
+
+        String[] topFor(String prefix) {
+            return shortPrefixTop.getOrDefault(prefix, new String[0]);
+        }
+
+        void forEachInRange(String prefix, int maxScan, Consumer<String> consumer) {
+            int i = Arrays.binarySearch(names, prefix);
+            if (i < 0) i = -i - 1;
+            for (int scanned = 0; i < names.length && scanned < maxScan; i++, scanned++) {
+                if (!names[i].startsWith(prefix)) break;
+                consumer.accept(names[i]);
+            }
+        }
+    }
+}
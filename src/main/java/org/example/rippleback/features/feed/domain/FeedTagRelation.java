@@ -13,7 +13,7 @@ import java.time.Instant;
         name = "feed_tag_relations",
         indexes = {
                 @Index(name = "ix_feed_tag_feed", columnList = "feed_id"),
-                @Index(name = "ix_feed_tag_tag", columnList = "tag_id")
+                @Index(name = "ix_feed_tag_tag_feed", columnList = "tag_id, feed_id DESC")
         },
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_feed_tag_unique", columnNames = {"feed_id", "tag_id"})
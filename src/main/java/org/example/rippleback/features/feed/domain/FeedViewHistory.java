@@ -13,7 +13,11 @@ import java.time.Instant;
 @AllArgsConstructor
 @Builder
 @Table(name = "feed_view_history",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "feed_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "feed_id"}),
+        indexes = {
+                // 내가 본 피드 목록: user_id 범위에서 최신 조회순 keyset (feed_id 까지 포함해 index-only scan)
+                @Index(name = "ix_feed_view_history_user_viewed", columnList = "user_id, viewed_at DESC, id DESC, feed_id")
+        })
 public class FeedViewHistory {
 
     @Id
@@ -24,5 +28,9 @@ public class FeedViewHistory {
 
     private Long feedId;
 
+    // 처음 본 시각 ("내가 본 피드" 정렬 키, 한 번 쓰면 바꾸지 않음)
     private Instant viewedAt;
+
+    // 마지막으로 다시 본 시각 (FeedViewPipeline 이 갱신)
+    private Instant lastViewedAt;
 }
@@ -8,6 +8,6 @@ import java.util.Optional;
 public interface FeedBookmarkRepository extends JpaRepository<FeedBookmark, Long> {
     boolean existsByFeedIdAndUserId(Long feedId, Long userId);
     void deleteByUserId(Long userId);
-    void deleteByUserIdAndFeedId(Long userId, Long feedId);
+    long deleteByUserIdAndFeedId(Long userId, Long feedId);
 }
 
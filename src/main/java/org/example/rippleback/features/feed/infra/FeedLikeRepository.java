@@ -8,5 +8,5 @@ import java.util.Optional;
 public interface FeedLikeRepository extends JpaRepository<FeedLike,Long> {
     boolean existsByFeedIdAndUserId(Long feedId, Long userId);
     void deleteByUserId(Long userId);
-    void deleteByUserIdAndFeedId(Long userId, Long feedId);
+    long deleteByUserIdAndFeedId(Long userId, Long feedId);
 }
@@ -5,11 +5,11 @@ import org.example.rippleback.features.feed.domain.FeedStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,27 +25,44 @@ public interface FeedRepository extends JpaRepository<Feed, Long> {
     @Query("""
             SELECT feed FROM Feed feed
             WHERE feed.status = 'PUBLISHED'
+            AND (:ids IS NULL OR feed.id IN :ids)
             ORDER BY feed.id DESC
             """)
-    List<Feed> findAllPublished();
+    List<Feed> findByIdIn(@Param("ids") List<Long> ids);
 
-    @EntityGraph(attributePaths = {"author", "author.profileMedia", "thumbnailMedia"})
+    // 홈 타임라인 inbox 재구성용: 내 피드 + 내가 팔로우하는 작성자의 피드 id (최신순)
     @Query("""
-            SELECT feed FROM Feed feed
+            SELECT feed.id FROM Feed feed
             WHERE feed.status = 'PUBLISHED'
-            AND (:ids IS NULL OR feed.id IN :ids)
+            AND (:cursor IS NULL OR feed.id < :cursor)
+            AND (feed.authorId = :viewerId
+                 OR feed.authorId IN (SELECT uf.followingId FROM UserFollow uf WHERE uf.followerId = :viewerId))
             ORDER BY feed.id DESC
             """)
-    List<Feed> findByIdIn(@Param("ids") List<Long> ids);
+    List<Long> findHomeTimelineSeedIds(@Param("viewerId") Long viewerId,
+                                       @Param("cursor") Long cursor,
+                                       Pageable pageable);
 
-    @EntityGraph(attributePaths = {"author", "author.profileMedia", "thumbnailMedia"})
+    // 팔로워가 많아 fan-out 하지 않는 작성자들의 피드 id (홈 조회 시점에 병합)
+    @Query("""
+            SELECT feed.id FROM Feed feed
+            WHERE feed.status = 'PUBLISHED'
+            AND feed.authorId IN :authorIds
+            AND (:cursor IS NULL OR feed.id < :cursor)
+            ORDER BY feed.id DESC
+            """)
+    List<Long> findPublishedIdsByAuthorIdIn(@Param("authorIds") Collection<Long> authorIds,
+                                            @Param("cursor") Long cursor,
+                                            Pageable pageable);
+
+    // 팔로우가 없는 유저의 홈: 전체 최신 피드 id (ix_feeds_status 로 범위 스캔)
     @Query("""
-        SELECT feed FROM Feed feed
-        WHERE feed.status = 'PUBLISHED'
-        AND (:cursor IS NULL OR feed.id < :cursor)
-        ORDER BY mod(feed.id * 13, 10007) DESC, feed.id DESC
-        """)
-    List<Feed> findFeedsForHome(@Param("cursor") Long cursor, Pageable pageable);
+            SELECT feed.id FROM Feed feed
+            WHERE feed.status = 'PUBLISHED'
+            AND (:cursor IS NULL OR feed.id < :cursor)
+            ORDER BY feed.id DESC
+            """)
+    List<Long> findRecentPublishedIds(@Param("cursor") Long cursor, Pageable pageable);
 
 
     @Query("""
@@ -60,63 +77,22 @@ public interface FeedRepository extends JpaRepository<Feed, Long> {
             """)
     Optional<Feed> findFullViewById(@Param("feedId") Long feedId);
 
+    // 전체보기 화면의 viewer 상태를 한 번에 조회 (VIEWED / LIKED / BOOKMARKED 중 해당하는 값만 반환)
+    @Query(value = """
+            SELECT 'VIEWED' FROM feed_view_history WHERE user_id = :userId AND feed_id = :feedId
+            UNION ALL
+            SELECT 'LIKED' FROM feed_like WHERE user_id = :userId AND feed_id = :feedId
+            UNION ALL
+            SELECT 'BOOKMARKED' FROM feed_bookmark WHERE user_id = :userId AND feed_id = :feedId
+            """, nativeQuery = true)
+    List<String> findViewerFlags(@Param("feedId") Long feedId, @Param("userId") Long userId);
+
     /**
      * (권장) 생성 직후 응답 매핑 시, author/profileMedia/thumbnailMedia를 한 번에 로딩하고 싶을 때 사용
      */
     @EntityGraph(attributePaths = {"author", "author.profileMedia", "thumbnailMedia"})
     Optional<Feed> findViewById(Long id);
 
-    @Modifying
-    @Query("""
-            update Feed f
-            set f.likeCount = f.likeCount + 1
-            where f.id = :feedId
-            """)
-    void incrementLikeCount(@Param("feedId") Long feedId);
-
-    @Modifying
-    @Query("""
-            update Feed f
-            set f.likeCount = f.likeCount - 1
-            where f.id = :feedId
-            and f.likeCount > 0
-            """)
-    int decrementLikeCount(@Param("feedId") Long feedId);
-
-    @Modifying
-    @Query("""
-            update Feed f
-            set f.bookmarkCount = f.bookmarkCount + 1
-            where f.id = :feedId
-            """)
-    void incrementBookmarkCount(@Param("feedId") Long feedId);
-
-    @Modifying
-    @Query("""
-            update Feed f
-            set f.bookmarkCount = f.bookmarkCount - 1
-            where f.id = :feedId
-            and f.bookmarkCount > 0
-            """)
-    int decrementBookmarkCount(@Param("feedId") Long feedId);
-
-    @Modifying(clearAutomatically = true)
-    @Query("""
-            update Feed f
-            set f.commentCount = f.commentCount + 1
-            where f.id = :feedId
-            """)
-    int incrementCommentCount(@Param("feedId") Long feedId);
-
-    @Modifying(clearAutomatically = true)
-    @Query("""
-            update Feed f
-            set f.commentCount = f.commentCount - 1
-            where f.id = :feedId
-            and f.commentCount > 0
-            """)
-    int decrementCommentCount(@Param("feedId") Long feedId);
-
     // 유저 프로필 페이지에서 사용하기 위함.
     @EntityGraph(attributePaths = {"author", "author.profileMedia", "thumbnailMedia"})
     @Query("""
@@ -1,6 +1,7 @@
 package org.example.rippleback.features.feed.infra;
 
 import org.example.rippleback.features.feed.domain.FeedTagRelation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,7 +12,17 @@ public interface FeedTagRelationRepository extends JpaRepository<FeedTagRelation
 
     List<FeedTagRelation> findByFeedId(Long feedId);
 
-    @Query("SELECT r.feedId FROM FeedTagRelation r WHERE r.tagId = :tagId")
-    List<Long> findFeedIdsByTagId(@Param("tagId") Long tagId);
+    // 태그 타임라인: 공개 피드 id 최신순 keyset (ix_feed_tag_tag_feed 범위 스캔)
+    @Query("""
+            SELECT r.feedId FROM FeedTagRelation r
+            JOIN Feed feed ON feed.id = r.feedId
+            WHERE r.tagId = :tagId
+            AND feed.status = 'PUBLISHED'
+            AND (:cursor IS NULL OR r.feedId < :cursor)
+            ORDER BY r.feedId DESC
+            """)
+    List<Long> findPublishedFeedIdsByTagId(@Param("tagId") Long tagId,
+                                           @Param("cursor") Long cursor,
+                                           Pageable pageable);
 
 }
@@ -3,7 +3,6 @@ package org.example.rippleback.features.feed.infra;
 import org.example.rippleback.features.feed.domain.FeedTag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,7 +10,19 @@ import java.util.Optional;
 public interface FeedTagRepository extends JpaRepository<FeedTag, Long> {
     Optional<FeedTag> findByName(String name);
 
-    @Query("SELECT t FROM FeedTag t WHERE t.name LIKE %:keyword%")
-    List<FeedTag> searchByKeyword(@Param("keyword") String keyword);
+    // 태그별 사용 횟수 (자동완성 인덱스 빌드용)
+    @Query("""
+            SELECT t.name AS name, COUNT(r.id) AS usage
+            FROM FeedTag t
+            LEFT JOIN FeedTagRelation r ON r.tagId = t.id
+            GROUP BY t.name
+            """)
+    List<TagUsage> findAllUsage();
+
+    interface TagUsage {
+        String getName();
+
+        long getUsage();
+    }
 
 }
\ No newline at end of file
@@ -1,12 +1,46 @@
 package org.example.rippleback.features.feed.infra;
 
 import org.example.rippleback.features.feed.domain.FeedViewHistory;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface FeedViewHistoryRepository extends JpaRepository<FeedViewHistory, Long> {
     boolean existsByUserIdAndFeedId(Long userId, Long feedId);
-}
 
+    // 이미 있으면 아무것도 하지 않음 (insert 된 경우 1)
+    @Modifying
+    @Query(value = """
+            INSERT INTO feed_view_history (user_id, feed_id, viewed_at)
+            VALUES (:userId, :feedId, :viewedAt)
+            ON CONFLICT (user_id, feed_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("feedId") Long feedId,
+                       @Param("viewedAt") Instant viewedAt);
+
+    // 내가 본 피드 목록 첫 페이지 (ix_feed_view_history_user_viewed)
+    @Query("""
+            select h from FeedViewHistory h
+            where h.userId = :userId
+            order by h.viewedAt desc, h.id desc
+            """)
+    List<FeedViewHistory> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 커서(이전 페이지 마지막 히스토리) 이후 페이지
+    @Query("""
+            select h from FeedViewHistory h
+            where h.userId = :userId
+              and (h.viewedAt < :viewedAt or (h.viewedAt = :viewedAt and h.id < :historyId))
+            order by h.viewedAt desc, h.id desc
+            """)
+    List<FeedViewHistory> findRecentByUserIdAfter(@Param("userId") Long userId,
+                                                  @Param("viewedAt") Instant viewedAt,
+                                                  @Param("historyId") Long historyId,
+                                                  Pageable pageable);
+}
@@ -0,0 +1,110 @@
+package org.example.rippleback.features.feed.infra;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 유저별 홈 타임라인(inbox) 저장소
+ * - key: home:{userId}, ZSET(member=feedId, score=feedId)
+ * - feedId 는 증가하므로 score 역순 = 최신순, cursor(feedId) 기준 range read 한 번으로 페이지 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class HomeTimelineStore {
+
+    private static final String INBOX_KEY_PREFIX = "home:";
+    private static final String CELEBRITIES_KEY = "home:celebs";
+    private static final int PUSH_BATCH_SIZE = 500;
+
+    // 이미 만들어진 inbox 에만 추가한다. (없는 inbox 는 다음 조회 때 DB 에서 재구성)
+    private static final RedisScript<Long> PUSH_SCRIPT = new DefaultRedisScript<>("""
+            local pushed = 0
+            for _, key in ipairs(KEYS) do
+              if redis.call('EXISTS', key) == 1 then
+                redis.call('ZADD', key, ARGV[1], ARGV[1])
+                redis.call('ZREMRANGEBYRANK', key, 0, -(tonumber(ARGV[2]) + 1))
+                pushed = pushed + 1
+              end
+            end
+            return pushed
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private String inboxKey(Long userId) {
+        return INBOX_KEY_PREFIX + userId;
+    }
+
+    public boolean exists(Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(inboxKey(userId)));
+    }
+
+    public long size(Long userId) {
+        Long size = redisTemplate.opsForZSet().zCard(inboxKey(userId));
+        return size == null ? 0 : size;
+    }
+
+    // cursor(feedId) 보다 작은 feedId 를 최신순으로 count 개
+    public List<Long> readPage(Long userId, Long cursor, int count) {
+        double max = (cursor == null) ? Double.POSITIVE_INFINITY : cursor - 1;
+        Set<String> members = redisTemplate.opsForZSet()
+                .reverseRangeByScore(inboxKey(userId), 0, max, 0, count);
+        if (members == null || members.isEmpty()) return List.of();
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    public void push(Collection<Long> userIds, Long feedId, int inboxSize) {
+        List<String> keys = userIds.stream().map(this::inboxKey).toList();
+        for (int from = 0; from < keys.size(); from += PUSH_BATCH_SIZE) {
+            List<String> batch = keys.subList(from, Math.min(from + PUSH_BATCH_SIZE, keys.size()));
+            redisTemplate.execute(PUSH_SCRIPT, batch, String.valueOf(feedId), String.valueOf(inboxSize));
+        }
+    }
+
+    public void rebuild(Long userId, List<Long> feedIds, Duration ttl) {
+        if (feedIds.isEmpty()) return;
+        String key = inboxKey(userId);
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(feedIds.size());
+        for (Long id : feedIds) {
+            tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(id), id.doubleValue()));
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.delete(key);
+                ops.opsForZSet().add(key, tuples);
+                ops.expire(key, ttl);
+                return null;
+            }
+        });
+    }
+
+    public void evict(Long userId) {
+        redisTemplate.delete(inboxKey(userId));
+    }
+
+    public void markCelebrity(Long authorId) {
+        redisTemplate.opsForSet().add(CELEBRITIES_KEY, String.valueOf(authorId));
+    }
+
+    public Set<Long> celebrities() {
+        Set<String> members = redisTemplate.opsForSet().members(CELEBRITIES_KEY);
+        if (members == null || members.isEmpty()) return Set.of();
+        Set<Long> ids = new HashSet<>(members.size());
+        for (String m : members) ids.add(Long.valueOf(m));
+        return ids;
+    }
+}
@@ -1,24 +1,47 @@
 package org.example.rippleback.features.media.app;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.Objects;
 
+/**
+ * object key -> CDN 공개 URL
+ * - 저장되는 key 는 @S3ObjectKey 로 검증되어 대부분 [A-Za-z0-9/_-.] 로만 이루어짐
+ *   -> 이런 key 는 prefix 에 그대로 이어 붙임 (split / UriComponentsBuilder 없이 String 한 번 할당)
+ * - 그 외 key (빈 segment, 앞뒤 '/', 그 밖의 문자) 는 기존 UriComponentsBuilder 경로로 만들고 결과를 캐시
+ */
 @Component
 public class MediaUrlResolver {
+
+    private static final int SLOW_PATH_CACHE_SIZE = 10_000;
+
     private final String base;
+    // base + "/"
+    private final String prefix;
+
+    private final Cache<String, String> slowPathCache = Caffeine.newBuilder()
+            .maximumSize(SLOW_PATH_CACHE_SIZE)
+            .build();
 
     public MediaUrlResolver(@Value("${CDN_BASE_URL}") String baseUrl) {
         if (baseUrl == null || baseUrl.isBlank()) {
             throw new IllegalStateException("cdn.base-url must be set");
         }
         this.base = baseUrl.replaceAll("/+$", "");
+        this.prefix = UriComponentsBuilder.fromHttpUrl(base).path("/").build().toUriString();
     }
 
     public String toPublicUrl(String key) {
         if (key == null || key.isBlank()) return null;
+        if (isPlainKey(key)) return prefix.concat(key);
+        return slowPathCache.get(key, this::buildUrl);
+    }
+
+    private String buildUrl(String key) {
         String[] segments = key.split("/");
         return UriComponentsBuilder.fromHttpUrl(base)
                 .path("/")
@@ -27,6 +50,21 @@ public class MediaUrlResolver {
                 .toUriString();
     }
 
+    // buildUrl 과 결과가 같은 key: 허용 문자만, 앞뒤 '/' 없음, 빈 segment("//") 없음
+    static boolean isPlainKey(String key) {
+        int len = key.length();
+        if (key.charAt(0) == '/' || key.charAt(len - 1) == '/') return false;
+        char prev = 0;
+        for (int i = 0; i < len; i++) {
+            char c = key.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '/' || c == '_' || c == '-' || c == '.';
+            if (!allowed || (c == '/' && prev == '/')) return false;
+            prev = c;
+        }
+        return true;
+    }
+
     public String hlsManifestUrl(String assetPrefix) {
         if (assetPrefix == null || assetPrefix.isBlank()) return null;
         return toPublicUrl(assetPrefix + "/hls/index.m3u8");
@@ -39,8 +77,7 @@ public class MediaUrlResolver {
 
     public String videoThumbUrl(String assetPrefix, int frame) {
         if (assetPrefix == null || assetPrefix.isBlank()) return null;
-        int f = Math.max(0, frame);
-        return toPublicUrl(assetPrefix + "/thumb/" + String.format("%04d", f) + ".jpg");
+        return toPublicUrl(assetPrefix + "/thumb/" + zeroPad4(Math.max(0, frame)) + ".jpg");
     }
 
     public String imageVariantUrl(String key, String suffixOrQuery) {
@@ -56,5 +93,13 @@ public class MediaUrlResolver {
         return toPublicUrl(variantKey);
     }
 
+    // String.format("%04d", n) 과 같은 결과 (n >= 0)
+    private static String zeroPad4(int n) {
+        if (n >= 1000) return Integer.toString(n);
+        if (n >= 100) return "0" + n;
+        if (n >= 10) return "00" + n;
+        return "000" + n;
+    }
+
     String getBase() { return base; }
 }
\ No newline at end of file
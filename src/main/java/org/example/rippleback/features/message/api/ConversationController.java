@@ -0,0 +1,28 @@
+package org.example.rippleback.features.message.api;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.RequiredArgsConstructor;
+import org.example.rippleback.core.security.jwt.JwtPrincipal;
+import org.example.rippleback.features.message.api.dto.ConversationPageDto;
+import org.example.rippleback.features.message.app.ConversationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/conversations")
+public class ConversationController {
+
+    private final ConversationService conversationService;
+
+    // 받은편지함 (마지막 메시지 최신순)
+    @GetMapping
+    public ResponseEntity<ConversationPageDto> getInbox(
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(conversationService.getInbox(principal.userId(), cursor, limit));
+    }
+}
@@ -1,16 +1,18 @@
 package org.example.rippleback.features.message.api;
 
+import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
+import org.example.rippleback.core.security.jwt.JwtPrincipal;
 import org.example.rippleback.features.message.api.dto.MessageDto;
+import org.example.rippleback.features.message.api.dto.MessagePageDto;
 import org.example.rippleback.features.message.api.dto.MessageRequestDto;
 import org.example.rippleback.features.message.app.MessageService;
 import org.example.rippleback.features.message.domain.Message;
-import org.example.rippleback.features.user.domain.User;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,17 +23,40 @@ public class MessageController  {
 
     @PostMapping
     public ResponseEntity<MessageDto> sendMessage(
-            @AuthenticationPrincipal User sender,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @RequestBody MessageRequestDto request
     ) {
-        Message message = messageService.sendMessage(sender, request);
+        Message message = messageService.sendMessage(principal.userId(), request);
         return ResponseEntity.ok(MessageDto.from(message));
     }
 
     @GetMapping("/{conversationId}")
-    public ResponseEntity<List<MessageDto>> getMessages(@PathVariable Long conversationId) {
-        List<MessageDto> messages = messageService.getMessages(conversationId)
-                .stream().map(MessageDto::from).toList();
-        return ResponseEntity.ok(messages);
+    public ResponseEntity<MessagePageDto> getMessages(
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
+            @PathVariable Long conversationId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "30") int limit
+    ) {
+        return ResponseEntity.ok(messageService.getMessages(principal.userId(), conversationId, before, after, limit));
+    }
+
+    // messageId 까지 읽음 처리 후 남은 안 읽은 수 반환
+    @PostMapping("/{conversationId}/read")
+    public ResponseEntity<Integer> markRead(
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
+            @PathVariable Long conversationId,
+            @RequestParam Long upTo
+    ) {
+        return ResponseEntity.ok(messageService.markRead(principal.userId(), conversationId, upTo));
+    }
+
+    // 새 메시지 실시간 수신 (SSE). 끊기면 마지막으로 받은 id 를 after 로 조회 후 재연결
+    @GetMapping(value = "/{conversationId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
+            @PathVariable Long conversationId
+    ) {
+        return messageService.subscribe(principal.userId(), conversationId);
     }
 }
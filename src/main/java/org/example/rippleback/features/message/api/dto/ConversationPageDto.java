@@ -0,0 +1,10 @@
+package org.example.rippleback.features.message.api.dto;
+
+import java.util.List;
+
+public record ConversationPageDto(
+        List<ConversationSummaryDto> conversations,
+        Long nextCursor,
+        boolean hasNext
+) {
+}
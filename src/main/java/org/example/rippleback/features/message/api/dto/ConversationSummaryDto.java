@@ -0,0 +1,18 @@
+package org.example.rippleback.features.message.api.dto;
+
+import org.example.rippleback.features.message.domain.ConversationType;
+import org.example.rippleback.features.user.api.dto.UserProfileSummaryResponseDto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ConversationSummaryDto(
+        Long id,
+        ConversationType type,
+        List<UserProfileSummaryResponseDto> participants,   // 나를 제외한 참여자
+        Long lastMessageId,
+        String lastMessageContent,
+        Instant lastMessageAt,
+        int unreadCount
+) {
+}
@@ -0,0 +1,10 @@
+package org.example.rippleback.features.message.api.dto;
+
+import java.util.List;
+
+// messages 는 항상 오래된 순. hasMore 는 요청한 방향(before/after)으로 더 있는지 여부
+public record MessagePageDto(
+        List<MessageDto> messages,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,217 @@
+package org.example.rippleback.features.message.app;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.rippleback.features.message.api.dto.MessageDto;
+import org.example.rippleback.features.message.infra.RedisChatRelay;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 대화방별 실시간 구독자 레지스트리 (SSE)
+ * - 이 노드에 구독자가 있는 대화방만 RedisChatRelay 로 채널을 듣고, 다른 노드에서 보낸 메시지도 로컬 구독자에게 전달
+ * - 채널 구독/해제(Redis 왕복)는 rooms.compute 밖에서, 대화방별 striped ReentrantLock 으로 직렬화해 수행
+ *   (compute 안에서 I/O 를 하면 같은 bin 의 다른 대화방이 막히고 virtual thread 가 carrier 에 고정됨)
+ * - 전달은 구독자 목록(CopyOnWriteArrayList)을 lock 없이 순회하며 연결별 bounded queue 에 넣기만 함
+ * - 연결마다 virtual thread 하나가 queue 를 비우며 전송, 한동안 보낼 게 없으면 heartbeat
+ * - queue 가 가득 찬(느린) 연결은 끊는다. 클라이언트는 재연결 후 after 커서로 놓친 메시지를 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConversationHub {
+
+    private static final int RELAY_LOCK_STRIPES = 64;
+
+    private final RedisChatRelay chatRelay;
+
+    private final ConcurrentHashMap<Long, CopyOnWriteArrayList<Subscriber>> rooms = new ConcurrentHashMap<>();
+    private final ReentrantLock[] relayLocks = newLocks(RELAY_LOCK_STRIPES);
+
+    @Value("${app.message.stream.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${app.message.stream.heartbeat:15s}")
+    private Duration heartbeat;
+
+    @Value("${app.message.stream.timeout:30m}")
+    private Duration timeout;
+
+    public SseEmitter subscribe(Long conversationId, Long userId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(conversationId, userId, emitter, new ArrayBlockingQueue<>(queueCapacity));
+
+        // compute 는 map 변경만 하고, 첫 구독자였는지만 기록
+        boolean[] first = new boolean[1];
+        rooms.compute(conversationId, (id, list) -> {
+            if (list == null) {
+                list = new CopyOnWriteArrayList<>();
+                first[0] = true;
+            }
+            list.add(subscriber);
+            return list;
+        });
+        if (first[0]) {
+            try {
+                syncRelay(conversationId);
+            } catch (RuntimeException e) {
+                subscriber.close();
+                throw e;
+            }
+        }
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        subscriber.start();
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMessageSent(MessageSentEvent event) {
+        deliverLocal(event.conversationId(), event.message());
+        chatRelay.publish(event.conversationId(), event.message());
+    }
+
+    // 이 노드에 연결된 구독자에게만 전달
+    public void deliverLocal(Long conversationId, MessageDto message) {
+        List<Subscriber> subscribers = rooms.get(conversationId);
+        if (subscribers == null) return;
+
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.offer(message)) {
+                log.debug("sse subscriber too slow, closing. conversationId={}, userId={}",
+                        conversationId, subscriber.userId);
+                subscriber.close();
+            }
+        }
+    }
+
+    public int subscriberCount(Long conversationId) {
+        List<Subscriber> subscribers = rooms.get(conversationId);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        rooms.values().forEach(list -> list.forEach(Subscriber::close));
+    }
+
+    private void remove(Subscriber subscriber) {
+        boolean[] last = new boolean[1];
+        rooms.computeIfPresent(subscriber.conversationId, (id, list) -> {
+            list.remove(subscriber);
+            if (!list.isEmpty()) return list;
+            last[0] = true;
+            return null;
+        });
+        if (last[0]) {
+            try {
+                syncRelay(subscriber.conversationId);
+            } catch (RuntimeException e) {
+                log.warn("chat relay unlisten failed. conversationId={}", subscriber.conversationId, e);
+            }
+        }
+    }
+
+    // 구독/해제 호출 순서가 뒤섞여도 lock 안에서 현재 rooms 상태에 맞춰 채널 구독 여부를 맞춤
+    private void syncRelay(Long conversationId) {
+        ReentrantLock lock = relayLocks[Math.floorMod(conversationId.hashCode(), relayLocks.length)];
+        lock.lock();
+        try {
+            if (rooms.containsKey(conversationId)) {
+                chatRelay.listen(conversationId, message -> deliverLocal(conversationId, message));
+            } else {
+                chatRelay.unlisten(conversationId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static ReentrantLock[] newLocks(int size) {
+        ReentrantLock[] locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) locks[i] = new ReentrantLock();
+        return locks;
+    }
+
+    private final class Subscriber {
+
+        private final Long conversationId;
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<MessageDto> queue;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Thread sender;
+
+        private Subscriber(Long conversationId, Long userId, SseEmitter emitter, BlockingQueue<MessageDto> queue) {
+            this.conversationId = conversationId;
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        void start() {
+            sender = Thread.ofVirtual()
+                    .name("sse-conv-" + conversationId + "-" + userId)
+                    .start(this::run);
+        }
+
+        boolean offer(MessageDto message) {
+            return !closed.get() && queue.offer(message);
+        }
+
+        private void run() {
+            long heartbeatMillis = heartbeat.toMillis();
+            try {
+                while (!closed.get()) {
+                    MessageDto message = queue.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                    if (closed.get()) break;
+                    if (message == null) {
+                        emitter.send(SseEmitter.event().comment("ping"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(message.id()))
+                                .name("message")
+                                .data(message));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 이미 완료된 emitter
+            } finally {
+                close();
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) return;
+            remove(this);
+            queue.clear();
+            try {
+                emitter.complete();
+            } catch (RuntimeException ignored) {
+                // 이미 완료된 경우
+            }
+            Thread t = sender;
+            if (t != null && t != Thread.currentThread()) t.interrupt();
+        }
+    }
+}
@@ -1,24 +1,84 @@
 package org.example.rippleback.features.message.app;
 
 import lombok.RequiredArgsConstructor;
+import org.example.rippleback.features.message.api.dto.ConversationPageDto;
+import org.example.rippleback.features.message.api.dto.ConversationSummaryDto;
 import org.example.rippleback.features.message.domain.Conversation;
+import org.example.rippleback.features.message.domain.ConversationReadState;
+import org.example.rippleback.features.message.infra.ConversationReadStateRepository;
 import org.example.rippleback.features.message.infra.ConversationRepository;
+import org.example.rippleback.features.user.api.dto.UserProfileSummaryResponseDto;
+import org.example.rippleback.features.user.app.UserMapper;
 import org.example.rippleback.features.user.domain.User;
+import org.example.rippleback.features.user.infra.UserRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ConversationService {
 
+    private static final int MAX_INBOX_PAGE_SIZE = 50;
+
     private final ConversationRepository conversationRepository;
+    private final ConversationReadStateRepository readStateRepository;
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+
+    /**
+     * 받은편지함 (마지막 메시지 최신순, cursor = 마지막으로 받은 lastMessageId)
+     * 페이지 / 참여자 / 유저 프로필 / 안 읽은 수를 각각 한 번의 쿼리로 로딩
+     */
+    public ConversationPageDto getInbox(Long userId, Long cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_INBOX_PAGE_SIZE));
+
+        List<Conversation> conversations = conversationRepository.findInboxPage(userId, cursor, PageRequest.of(0, size + 1));
+
+        boolean hasNext = conversations.size() > size;
+        if (hasNext) {
+            conversations = conversations.subList(0, size);
+        }
+        if (conversations.isEmpty()) return new ConversationPageDto(List.of(), null, false);
+
+        Long nextCursor = conversations.getLast().getLastMessageId();
+        List<Long> conversationIds = conversations.stream().map(Conversation::getId).toList();
+
+        // 대화방별 상대 참여자 id
+        Map<Long, List<Long>> participantIds = new HashMap<>();
+        Set<Long> userIds = new HashSet<>();
+        for (ConversationRepository.ParticipantRow row : conversationRepository.findParticipantRows(conversationIds)) {
+            if (row.getUserId().equals(userId)) continue;
+            participantIds.computeIfAbsent(row.getConversationId(), k -> new ArrayList<>()).add(row.getUserId());
+            userIds.add(row.getUserId());
+        }
 
-    public List<Conversation> getUserConversations(User user) {
-        return conversationRepository.findAllByUserId(user.getId());
+        Map<Long, User> users = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            for (User u : userRepository.findByIdInWithProfile(userIds)) users.put(u.getId(), u);
+        }
+
+        Map<Long, Integer> unread = new HashMap<>();
+        for (ConversationReadState s : readStateRepository.findByUserIdAndConversationIdIn(userId, conversationIds)) {
+            unread.put(s.getConversationId(), s.getUnreadCount());
+        }
+
+        List<ConversationSummaryDto> items = conversations.stream()
+                .map(c -> new ConversationSummaryDto(
+                        c.getId(),
+                        c.getType(),
+                        participantsOf(participantIds.getOrDefault(c.getId(), List.of()), users),
+                        c.getLastMessageId(),
+                        c.getLastMessageContent(),
+                        c.getLastMessageAt(),
+                        unread.getOrDefault(c.getId(), 0)
+                ))
+                .toList();
+
+        return new ConversationPageDto(items, nextCursor, hasNext);
     }
 
     @Transactional
@@ -28,4 +88,12 @@ public class ConversationService {
                 .build();
         return conversationRepository.save(conversation);
     }
+
+    private List<UserProfileSummaryResponseDto> participantsOf(List<Long> ids, Map<Long, User> users) {
+        return ids.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .map(u -> userMapper.toSummary(u, false))
+                .toList();
+    }
 }
@@ -0,0 +1,9 @@
+package org.example.rippleback.features.message.app;
+
+import org.example.rippleback.features.message.api.dto.MessageDto;
+
+// 메시지 저장 트랜잭션 커밋 후 실시간 전달(구독자 push)을 위한 이벤트
+public record MessageSentEvent(
+        Long conversationId,
+        MessageDto message
+) {}
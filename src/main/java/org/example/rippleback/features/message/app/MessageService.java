@@ -3,15 +3,24 @@ package org.example.rippleback.features.message.app;
 import lombok.RequiredArgsConstructor;
 import org.example.rippleback.core.error.BusinessException;
 import org.example.rippleback.core.error.ErrorCode;
+import org.example.rippleback.features.message.api.dto.MessageDto;
+import org.example.rippleback.features.message.api.dto.MessagePageDto;
 import org.example.rippleback.features.message.api.dto.MessageRequestDto;
 import org.example.rippleback.features.message.domain.Conversation;
+import org.example.rippleback.features.message.domain.ConversationReadState;
 import org.example.rippleback.features.message.domain.Message;
+import org.example.rippleback.features.message.infra.ConversationReadStateRepository;
 import org.example.rippleback.features.message.infra.ConversationRepository;
 import org.example.rippleback.features.message.infra.MessageRepository;
-import org.example.rippleback.features.user.domain.User;
+import org.example.rippleback.features.user.infra.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Service
@@ -19,28 +28,112 @@ import java.util.List;
 @Transactional
 public class MessageService {
 
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+    // 받은편지함에 보여줄 마지막 메시지 미리보기 길이
+    private static final int LAST_MESSAGE_PREVIEW_LENGTH = 100;
+
     private final MessageRepository messageRepository;
     private final ConversationRepository conversationRepository;
+    private final UserRepository userRepository;
+    private final ConversationReadStateRepository readStateRepository;
+    private final ConversationHub conversationHub;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public Message sendMessage(User sender, MessageRequestDto requestDto) {
+    public Message sendMessage(Long senderId, MessageRequestDto requestDto) {
         Conversation conversation = conversationRepository.findById(requestDto.conversationId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_CONVERSATION));
 
-        if (!conversation.hasParticipant(sender)) {
+        if (!conversationRepository.existsParticipant(conversation.getId(), senderId)) {
             throw new BusinessException(ErrorCode.NOT_CONTAIN_CONVERSATION);
         }
 
         Message message = Message.builder()
                 .conversation(conversation)
-                .sender(sender)
+                .sender(userRepository.getReferenceById(senderId))
                 .content(requestDto.content())
                 .messageType(requestDto.messageType())
                 .build();
 
-        return messageRepository.save(message);
+        Message saved = messageRepository.save(message);
+        conversationRepository.updateLastMessage(conversation.getId(), saved.getId(), preview(saved.getContent()));
+        readStateRepository.recordMessage(conversation.getId(), senderId, saved.getId());
+        eventPublisher.publishEvent(new MessageSentEvent(conversation.getId(), MessageDto.from(saved)));
+        return saved;
+    }
+
+    /**
+     * messageId 까지 읽음 처리 (이미 더 뒤까지 읽었으면 그대로)
+     * @return 남은 안 읽은 메시지 수
+     */
+    public int markRead(Long userId, Long conversationId, Long messageId) {
+        assertParticipant(conversationId, userId);
+        if (messageId == null || !messageRepository.existsByIdAndConversationId(messageId, conversationId)) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR);
+        }
+        // COUNT 를 row lock 을 잡은 뒤의 문장에서 해야, 동시에 보낸 메시지의 +1 을 덮어쓰지 않음
+        readStateRepository.insertIfAbsent(conversationId, userId);
+        Long watermark = readStateRepository.lockWatermark(conversationId, userId);
+        if (watermark == null || watermark < messageId) {
+            readStateRepository.markReadUpTo(conversationId, userId, messageId);
+        }
+        return getUnreadCount(userId, conversationId);
     }
 
-    public List<Message> getMessages(Long conversationId) {
-        return messageRepository.findAllByConversationIdOrderBySentAtAsc(conversationId);
+    @Transactional(readOnly = true)
+    public int getUnreadCount(Long userId, Long conversationId) {
+        return readStateRepository.findByConversationIdAndUserId(conversationId, userId)
+                .map(ConversationReadState::getUnreadCount)
+                .orElse(0);
+    }
+
+    // 실시간 구독 (참여자만)
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(Long userId, Long conversationId) {
+        assertParticipant(conversationId, userId);
+        return conversationHub.subscribe(conversationId, userId);
+    }
+
+    /**
+     * 메시지 페이지 조회 (id keyset)
+     * - before: 해당 id 보다 오래된 메시지 (없으면 가장 최근 페이지)
+     * - after: 해당 id 이후에 온 메시지 (재접속 시 놓친 메시지 따라잡기)
+     */
+    @Transactional(readOnly = true)
+    public MessagePageDto getMessages(Long userId, Long conversationId, Long before, Long after, int limit) {
+        if (before != null && after != null) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR);
+        }
+        assertParticipant(conversationId, userId);
+
+        int size = Math.max(1, Math.min(limit, MAX_MESSAGE_PAGE_SIZE));
+        PageRequest page = PageRequest.of(0, size + 1);
+
+        List<Message> messages = after != null
+                ? messageRepository.findPageAfter(conversationId, after, page)
+                : messageRepository.findPageBefore(conversationId, before, page);
+
+        boolean hasMore = messages.size() > size;
+        if (hasMore) {
+            messages = messages.subList(0, size);
+        }
+
+        List<MessageDto> items = new ArrayList<>(messages.stream().map(MessageDto::from).toList());
+        // before 방향은 최신순으로 읽었으므로 오래된 순으로 뒤집어서 반환
+        if (after == null) Collections.reverse(items);
+
+        return new MessagePageDto(items, hasMore);
+    }
+
+    private static String preview(String content) {
+        if (content == null || content.length() <= LAST_MESSAGE_PREVIEW_LENGTH) return content;
+        return content.substring(0, LAST_MESSAGE_PREVIEW_LENGTH);
+    }
+
+    private void assertParticipant(Long conversationId, Long userId) {
+        if (conversationRepository.existsParticipant(conversationId, userId)) return;
+        if (!conversationRepository.existsById(conversationId)) {
+            throw new BusinessException(ErrorCode.NOT_FOUND_CONVERSATION);
+        }
+        throw new BusinessException(ErrorCode.NOT_CONTAIN_CONVERSATION);
     }
 }
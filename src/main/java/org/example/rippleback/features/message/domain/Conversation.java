@@ -27,7 +27,8 @@ public class Conversation {
     @JoinTable(
             name = "conversation_participants",
             joinColumns = @JoinColumn(name = "conversation_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
+            inverseJoinColumns = @JoinColumn(name = "user_id"),
+            indexes = @Index(name = "ix_conversation_participants_user", columnList = "user_id, conversation_id")
     )
     @Builder.Default
     private Set<User> participants = new HashSet<>();
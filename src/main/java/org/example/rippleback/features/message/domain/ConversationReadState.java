@@ -0,0 +1,48 @@
+package org.example.rippleback.features.message.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 대화 참여자별 읽음 상태 (read watermark)
+ * - lastReadMessageId 까지 읽은 것으로 보고, unreadCount 는 그 이후 남이 보낸 메시지 수
+ * - 메시지 전송 시 수신자 row 의 unreadCount + 1, 발신자 row 는 자기 메시지까지 읽음 처리
+ * - row 가 없으면 안 읽은 메시지 0
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(
+        name = "conversation_read_states",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_conversation_read_state", columnNames = {"conversation_id", "user_id"})
+        },
+        indexes = {
+                @Index(name = "ix_conversation_read_state_user", columnList = "user_id")
+        }
+)
+public class ConversationReadState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "conversation_id", nullable = false)
+    private Long conversationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "last_read_message_id", nullable = false)
+    private long lastReadMessageId;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -11,7 +11,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "messages")
+@Table(
+        name = "messages",
+        indexes = {
+                @Index(name = "ix_messages_conversation_id", columnList = "conversation_id, id DESC")
+        }
+)
 
 public class Message {
 
@@ -0,0 +1,90 @@
+package org.example.rippleback.features.message.infra;
+
+import org.example.rippleback.features.message.domain.ConversationReadState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ConversationReadStateRepository extends JpaRepository<ConversationReadState, Long> {
+
+    Optional<ConversationReadState> findByConversationIdAndUserId(Long conversationId, Long userId);
+
+    List<ConversationReadState> findByUserIdAndConversationIdIn(Long userId, Collection<Long> conversationIds);
+
+    /**
+     * 새 메시지: 수신자는 안 읽은 수 + 1, 발신자는 자기 메시지까지 읽음 처리
+     * 한 문장에서 user_id 순으로 row lock 을 잡아 동시에 보내는 참여자끼리 데드락이 나지 않게 함
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO conversation_read_states (conversation_id, user_id, last_read_message_id, unread_count, updated_at)
+            SELECT cp.conversation_id,
+                   cp.user_id,
+                   CASE WHEN cp.user_id = :senderId THEN :messageId ELSE 0 END,
+                   CASE WHEN cp.user_id = :senderId THEN 0 ELSE 1 END,
+                   now()
+            FROM conversation_participants cp
+            WHERE cp.conversation_id = :conversationId
+            ORDER BY cp.user_id
+            ON CONFLICT (conversation_id, user_id)
+            DO UPDATE SET last_read_message_id = CASE WHEN EXCLUDED.user_id = :senderId
+                              THEN GREATEST(conversation_read_states.last_read_message_id, :messageId)
+                              ELSE conversation_read_states.last_read_message_id END,
+                          unread_count = CASE WHEN EXCLUDED.user_id = :senderId
+                              THEN 0
+                              ELSE conversation_read_states.unread_count + 1 END,
+                          updated_at = now()
+            """, nativeQuery = true)
+    int recordMessage(@Param("conversationId") Long conversationId,
+                      @Param("senderId") Long senderId,
+                      @Param("messageId") Long messageId);
+
+    // 읽음 처리 전에 row 가 있도록 (이미 있으면 그대로)
+    @Modifying
+    @Query(value = """
+            INSERT INTO conversation_read_states (conversation_id, user_id, last_read_message_id, unread_count, updated_at)
+            VALUES (:conversationId, :userId, 0, 0, now())
+            ON CONFLICT (conversation_id, user_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("conversationId") Long conversationId,
+                       @Param("userId") Long userId);
+
+    /**
+     * 읽음 상태 row lock (진행 중인 recordMessage 가 있으면 그 트랜잭션이 끝날 때까지 대기)
+     * 이후 문장은 새 snapshot 으로 실행되므로, 대기하는 동안 커밋된 메시지도 센다
+     */
+    @Query(value = """
+            SELECT last_read_message_id
+            FROM conversation_read_states
+            WHERE conversation_id = :conversationId AND user_id = :userId
+            FOR UPDATE
+            """, nativeQuery = true)
+    Long lockWatermark(@Param("conversationId") Long conversationId,
+                       @Param("userId") Long userId);
+
+    /**
+     * messageId 까지 읽음 처리 (watermark 는 뒤로 가지 않음). lockWatermark 로 row lock 을 잡은 뒤 호출
+     * 남은 안 읽은 수는 watermark 이후 남이 보낸 메시지만 세므로 (conversation_id, id) 인덱스 범위 스캔
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE conversation_read_states
+            SET last_read_message_id = :messageId,
+                unread_count = (SELECT COUNT(*) FROM messages m
+                                WHERE m.conversation_id = :conversationId
+                                  AND m.id > :messageId
+                                  AND m.sender_id <> :userId),
+                updated_at = now()
+            WHERE conversation_id = :conversationId
+              AND user_id = :userId
+              AND last_read_message_id < :messageId
+            """, nativeQuery = true)
+    int markReadUpTo(@Param("conversationId") Long conversationId,
+                     @Param("userId") Long userId,
+                     @Param("messageId") Long messageId);
+}
@@ -2,22 +2,65 @@ package org.example.rippleback.features.message.infra;
 
 import org.example.rippleback.features.message.domain.Conversation;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ConversationRepository extends JpaRepository<Conversation,Long> {
-    @Query("SELECT c FROM Conversation c JOIN c.participants p WHERE p.id = :userId")
-    List<Conversation> findAllByUserId(Long userId);
 
     @Query("""
-        SELECT COUNT(m)
-        FROM Message m
-        LEFT JOIN MessageRead r
-            ON r.message.id = m.id AND r.user.id = :userId
-        WHERE m.conversation.id = :conversationId
-          AND r.id IS NULL
+        SELECT COUNT(c) > 0
+        FROM Conversation c
+        JOIN c.participants p
+        WHERE c.id = :conversationId AND p.id = :userId
     """)
-    Long countUnreadMessages(Long conversationId, Long userId);
+    boolean existsParticipant(@Param("conversationId") Long conversationId, @Param("userId") Long userId);
+
+    // 받은편지함: 메시지가 있는 대화방을 마지막 메시지 최신순으로 (id 는 전송 순서와 같음)
+    @Query("""
+        SELECT c
+        FROM Conversation c
+        JOIN c.participants p
+        WHERE p.id = :userId
+          AND c.lastMessageId IS NOT NULL
+          AND (:cursor IS NULL OR c.lastMessageId < :cursor)
+        ORDER BY c.lastMessageId DESC
+    """)
+    List<Conversation> findInboxPage(@Param("userId") Long userId,
+                                     @Param("cursor") Long cursor,
+                                     Pageable pageable);
+
+    // 페이지에 포함된 대화방들의 참여자 id 를 한 번에
+    @Query("""
+        SELECT c.id AS conversationId, p.id AS userId
+        FROM Conversation c
+        JOIN c.participants p
+        WHERE c.id IN :conversationIds
+    """)
+    List<ParticipantRow> findParticipantRows(@Param("conversationIds") Collection<Long> conversationIds);
+
+    // 마지막 메시지 갱신 (동시에 보낸 메시지 중 더 뒤의 것만 남김)
+    @Modifying
+    @Query(value = """
+        UPDATE conversations
+        SET last_message_id = :messageId,
+            last_message_content = :content,
+            last_message_at = now()
+        WHERE id = :conversationId
+          AND (last_message_id IS NULL OR last_message_id < :messageId)
+    """, nativeQuery = true)
+    int updateLastMessage(@Param("conversationId") Long conversationId,
+                          @Param("messageId") Long messageId,
+                          @Param("content") String content);
+
+    interface ParticipantRow {
+        Long getConversationId();
+
+        Long getUserId();
+    }
 }
@@ -1,10 +1,38 @@
 package org.example.rippleback.features.message.infra;
 
 import org.example.rippleback.features.message.domain.Message;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
-    List<Message> findAllByConversationIdOrderBySentAtAsc(Long conversationId);
+
+    boolean existsByIdAndConversationId(Long id, Long conversationId);
+
+    // before 보다 오래된 메시지 (최신순, ix_messages_conversation_id 역방향 스캔)
+    @Query("""
+            SELECT m FROM Message m
+            JOIN FETCH m.sender
+            WHERE m.conversation.id = :conversationId
+            AND (:before IS NULL OR m.id < :before)
+            ORDER BY m.id DESC
+            """)
+    List<Message> findPageBefore(@Param("conversationId") Long conversationId,
+                                 @Param("before") Long before,
+                                 Pageable pageable);
+
+    // after 이후에 온 메시지 (오래된 순)
+    @Query("""
+            SELECT m FROM Message m
+            JOIN FETCH m.sender
+            WHERE m.conversation.id = :conversationId
+            AND m.id > :after
+            ORDER BY m.id ASC
+            """)
+    List<Message> findPageAfter(@Param("conversationId") Long conversationId,
+                                @Param("after") Long after,
+                                Pageable pageable);
 }
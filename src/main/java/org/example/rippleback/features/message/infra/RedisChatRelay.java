@@ -0,0 +1,83 @@
+package org.example.rippleback.features.message.infra;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.rippleback.features.message.api.dto.MessageDto;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 채팅 메시지 중계 (Redis pub/sub)
+ * - channel: chat:conv:{conversationId}
+ * - 노드는 로컬 구독자가 있는 대화방 채널만 구독하므로, Redis 가 구독 중인 노드에만 전달 (sticky session 불필요)
+ * - 보낸 노드는 이미 로컬 전달을 했으므로 자기가 publish 한 메시지는 무시
+ * - listen/unlisten 은 Redis SUBSCRIBE/UNSUBSCRIBE 를 기다리므로 map 의 compute 밖에서 호출하며,
+ *   같은 대화방에 대한 호출은 호출자(ConversationHub)가 직렬화함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisChatRelay {
+
+    private static final String CHANNEL_PREFIX = "chat:conv:";
+
+    record Envelope(String node, MessageDto message) {
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentHashMap<Long, MessageListener> listeners = new ConcurrentHashMap<>();
+
+    private static ChannelTopic topic(Long conversationId) {
+        return new ChannelTopic(CHANNEL_PREFIX + conversationId);
+    }
+
+    public void publish(Long conversationId, MessageDto message) {
+        try {
+            String payload = objectMapper.writeValueAsString(new Envelope(nodeId, message));
+            redisTemplate.convertAndSend(topic(conversationId).getTopic(), payload);
+        } catch (JsonProcessingException | DataAccessException e) {
+            // 다른 노드의 구독자는 재연결 후 after 커서로 따라잡음
+            log.warn("chat relay publish failed. conversationId={}", conversationId, e);
+        }
+    }
+
+    // 이미 듣고 있으면 무시
+    public void listen(Long conversationId, Consumer<MessageDto> receiver) {
+        if (listeners.containsKey(conversationId)) return;
+        MessageListener listener = (message, pattern) -> receive(conversationId, message.getBody(), receiver);
+        listenerContainer.addMessageListener(listener, topic(conversationId));
+        listeners.put(conversationId, listener);
+    }
+
+    // 듣고 있지 않으면 무시
+    public void unlisten(Long conversationId) {
+        MessageListener listener = listeners.remove(conversationId);
+        if (listener == null) return;
+        listenerContainer.removeMessageListener(listener, topic(conversationId));
+    }
+
+    private void receive(Long conversationId, byte[] body, Consumer<MessageDto> receiver) {
+        try {
+            Envelope envelope = objectMapper.readValue(body, Envelope.class);
+            if (nodeId.equals(envelope.node())) return;
+            receiver.accept(envelope.message());
+        } catch (IOException e) {
+            log.warn("chat relay message dropped. conversationId={}", conversationId, e);
+        }
+    }
+}
@@ -114,7 +114,9 @@ public class UserController {
     @Operation(
             summary = "유저 검색",
             description = """
-                    query 기반 유저 검색(커서 페이징).
+                    query 기반 유저 검색(커서 페이징, 관련도 순).
+                    - username: 정확 일치 > 접두어 일치 > 부분/유사 일치 순 (2글자 이하는 접두어만)
+                    - '@' 가 포함된 query 는 이메일 정확 일치만 검색
                     - cursor: 마지막 항목의 id(다음 페이지 조회용)
                     - size: 1~50 권장
                     """
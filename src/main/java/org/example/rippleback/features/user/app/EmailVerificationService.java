@@ -3,7 +3,7 @@ package org.example.rippleback.features.user.app;
 import lombok.RequiredArgsConstructor;
 import org.example.rippleback.core.error.BusinessException;
 import org.example.rippleback.core.error.ErrorCode;
-import org.example.rippleback.infra.mail.EmailSender;
+import org.example.rippleback.infra.mail.MailQueue;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
@@ -18,7 +18,7 @@ import java.util.concurrent.TimeUnit;
 public class EmailVerificationService {
 
     private final RedisTemplate<String, String> redis;
-    private final EmailSender emailSender;
+    private final MailQueue mailQueue;
 
     @Value("${app.email.code-ttl-seconds:600}")
     private long codeTtlSeconds;
@@ -35,7 +35,9 @@ public class EmailVerificationService {
         String code = generate6();
         redis.opsForValue().set(codeKey(em), code, Duration.ofSeconds(codeTtlSeconds));
         redis.opsForValue().set(coolKey, "1", Duration.ofSeconds(cooldownSeconds));
-        emailSender.send(em, "Ripple 인증 코드", "인증 코드: " + code);
+        // SMTP 발송은 MailQueue 워커가 처리 (요청 스레드는 큐에 넣고 바로 반환)
+        // 코드가 만료된 뒤에는 보내지 않음 (재시도 포함)
+        mailQueue.enqueue(em, "Ripple 인증 코드", "인증 코드: " + code, Duration.ofSeconds(codeTtlSeconds));
     }
 
     public void verify(String email, String code) {
@@ -0,0 +1,112 @@
+package org.example.rippleback.features.user.app;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.rippleback.features.user.infra.UserBlockRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 유저별 차단 관계(내가 차단 + 나를 차단) 상대 id 집합 캐시
+ * - key: blk:{userId}, SET
+ * - 목록 조회 시 행마다 existsAnyBlock 을 부르지 않고 한 번 읽은 집합으로 메모리에서 필터링
+ * - 차단/차단 해제 커밋 후 양쪽 유저 캐시 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserBlockSetCache {
+
+    private static final String KEY_PREFIX = "blk:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    // 차단 관계가 없는 유저도 캐시하기 위한 값 (유저 id 는 1부터 시작)
+    private static final String EMPTY_MARKER = "0";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserBlockRepository userBlockRepository;
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    public Set<Long> blockedWith(Long userId) {
+        if (userId == null) return Set.of();
+
+        String key = key(userId);
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(key);
+            if (members != null && !members.isEmpty()) {
+                Set<Long> ids = new HashSet<>(members.size());
+                for (String m : members) {
+                    if (!EMPTY_MARKER.equals(m)) ids.add(Long.valueOf(m));
+                }
+                return ids;
+            }
+
+            Set<Long> ids = load(userId);
+            write(key, ids);
+            return ids;
+        } catch (DataAccessException e) {
+            log.warn("block set cache unavailable, loading from db. userId={}", userId, e);
+            return load(userId);
+        }
+    }
+
+    // 두 유저 사이에 어느 방향이든 차단이 있으면 true
+    public boolean isBlocked(Long userId, Long otherId) {
+        if (userId == null || otherId == null) return false;
+        return blockedWith(userId).contains(otherId);
+    }
+
+    public void evict(Long... userIds) {
+        Runnable evict = () -> {
+            try {
+                redisTemplate.delete(Arrays.stream(userIds).map(this::key).toList());
+            } catch (DataAccessException e) {
+                log.warn("block set evict failed. userIds={}", Arrays.toString(userIds), e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    private Set<Long> load(Long userId) {
+        return new HashSet<>(userBlockRepository.findBlockCounterpartIds(userId));
+    }
+
+    private void write(String key, Set<Long> ids) {
+        String[] values = new String[ids.size() + 1];
+        values[0] = EMPTY_MARKER;
+        int i = 1;
+        for (Long id : ids) values[i++] = String.valueOf(id);
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForSet().add(key, values);
+                ops.expire(key, TTL);
+                return null;
+            }
+        });
+    }
+}
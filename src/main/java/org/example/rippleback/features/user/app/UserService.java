@@ -6,21 +6,23 @@ import lombok.RequiredArgsConstructor;
 import org.example.rippleback.core.error.BusinessException;
 import org.example.rippleback.core.error.ErrorCode;
 import org.example.rippleback.features.feed.app.FeedService;
-import org.example.rippleback.features.feed.domain.FeedStatus;
+import org.example.rippleback.features.feed.app.HomeTimelineService;
 import org.example.rippleback.features.feed.infra.FeedBookmarkRepository;
 import org.example.rippleback.features.feed.infra.FeedLikeRepository;
-import org.example.rippleback.features.feed.infra.FeedRepository;
 import org.example.rippleback.features.media.domain.Media;
 import org.example.rippleback.features.media.infra.MediaRepository;
 import org.example.rippleback.features.user.api.dto.*;
 import org.example.rippleback.features.user.domain.User;
 import org.example.rippleback.features.user.domain.UserBlock;
 import org.example.rippleback.features.user.domain.UserFollow;
+import org.example.rippleback.features.user.domain.UserStats;
 import org.example.rippleback.features.user.domain.UserStatus;
 import org.example.rippleback.features.user.infra.UserBlockRepository;
 import org.example.rippleback.features.user.infra.UserFollowRepository;
 import org.example.rippleback.features.user.infra.UserRepository;
+import org.example.rippleback.features.user.infra.UserSearchRepository;
 import org.example.rippleback.infra.redis.RefreshTokenService;
+import org.example.rippleback.infra.redis.TokenVersionService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -45,14 +47,18 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserFollowRepository userFollowRepo;
     private final UserBlockRepository userBlockRepo;
-    private final FeedRepository feedRepo;
     private final MediaRepository mediaRepo;
     private final EmailVerificationService emailVerificationService;
     private final PasswordEncoder passwordEncoder;
     private final RefreshTokenService refreshTokenService;
+    private final TokenVersionService tokenVersionService;
     private final UserMapper userMapper;
     private final Clock clock;
     private final FeedService feedService;
+    private final HomeTimelineService homeTimelineService;
+    private final UserBlockSetCache userBlockSetCache;
+    private final UserStatsService userStatsService;
+    private final UserSearchRepository userSearchRepository;
     private final FeedLikeRepository feedLikeRepository;
     private final FeedBookmarkRepository feedBookmarkRepository;
     private final S3Presigner s3Presigner;
@@ -95,13 +101,11 @@ public class UserService {
         User u = userRepository.findById(meId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        long postsCount = feedRepo.countByAuthorIdAndStatus(meId, FeedStatus.PUBLISHED);
-        long followersCount = userFollowRepo.countByFollowingId(meId);
-        long followingsCount = userFollowRepo.countByFollowerId(meId);
+        UserStats stats = userStatsService.get(meId);
 
-        var latestFeeds = feedService.getLatestByAuthor(meId, meId);
+        var latestFeeds = feedService.getLatestByAuthor(meId, meId, false);
 
-        return userMapper.toMe(u, postsCount, followersCount, followingsCount, latestFeeds);
+        return userMapper.toMe(u, stats.getPostsCount(), stats.getFollowersCount(), stats.getFollowingsCount(), latestFeeds);
     }
 
     @Transactional(readOnly = true)
@@ -113,13 +117,11 @@ public class UserService {
 
         Boolean isFollow = userFollowRepo.existsByFollowerIdAndFollowingId(viewerId, u.getId());
 
-        long feedsCount = feedRepo.countByAuthorIdAndStatus(id, FeedStatus.PUBLISHED);
-        long followersCount = userFollowRepo.countByFollowingId(id);
-        long followingsCount = userFollowRepo.countByFollowerId(id);
+        UserStats stats = userStatsService.get(id);
 
-        var latestFeeds = feedService.getLatestByAuthor(viewerId, id);
+        var latestFeeds = feedService.getLatestByAuthor(viewerId, id, Boolean.TRUE.equals(isFollow));
 
-        return userMapper.toProfile(u, isFollow, feedsCount, followersCount, followingsCount, latestFeeds);
+        return userMapper.toProfile(u, isFollow, stats.getPostsCount(), stats.getFollowersCount(), stats.getFollowingsCount(), latestFeeds);
     }
 
     @Transactional(readOnly = true)
@@ -134,13 +136,11 @@ public class UserService {
 
         Boolean isFollow = userFollowRepo.existsByFollowerIdAndFollowingId(viewerId, u.getId());
 
-        long feedsCount = feedRepo.countByAuthorIdAndStatus(id, FeedStatus.PUBLISHED);
-        long followersCount = userFollowRepo.countByFollowingId(id);
-        long followingsCount = userFollowRepo.countByFollowerId(id);
+        UserStats stats = userStatsService.get(id);
 
-        var latestFeeds = feedService.getLatestByAuthor(viewerId, id);
+        var latestFeeds = feedService.getLatestByAuthor(viewerId, id, Boolean.TRUE.equals(isFollow));
 
-        return userMapper.toProfile(u, isFollow, feedsCount, followersCount, followingsCount, latestFeeds);
+        return userMapper.toProfile(u, isFollow, stats.getPostsCount(), stats.getFollowersCount(), stats.getFollowingsCount(), latestFeeds);
     }
 
     @Transactional(readOnly = true)
@@ -151,17 +151,25 @@ public class UserService {
     ) {
         int pageSize = Math.max(1, Math.min(size, 50));
 
-        List<User> users = userRepository.search(
-                q == null ? "" : q,
-                cursor,
-                PageRequest.of(0, pageSize)
-        );
+        // 관련도 순 정렬이지만 커서는 그대로 마지막 유저 id (정렬 키는 검색 쿼리에서 다시 계산)
+        List<Long> ids = userSearchRepository.searchIds(q == null ? "" : q, cursor, pageSize + 1);
 
-        String next = users.size() == pageSize
-                ? String.valueOf(users.get(users.size() - 1).getId())
-                : null;
+        boolean hasNext = ids.size() > pageSize;
+        if (hasNext) {
+            ids = ids.subList(0, pageSize);
+        }
+
+        String next = hasNext ? String.valueOf(ids.get(ids.size() - 1)) : null;
 
-        boolean hasNext = next != null;
+        // 검색 결과 순서 유지하며 프로필까지 한 번에 로딩
+        java.util.Map<Long, User> byId = new java.util.HashMap<>();
+        if (!ids.isEmpty()) {
+            for (User u : userRepository.findByIdInWithProfile(ids)) byId.put(u.getId(), u);
+        }
+        List<User> users = ids.stream()
+                .map(byId::get)
+                .filter(java.util.Objects::nonNull)
+                .toList();
 
         // 1) 결과 유저 id 수집
         var targetIds = users.stream().map(User::getId).collect(java.util.stream.Collectors.toSet());
@@ -257,12 +265,10 @@ public class UserService {
             }
         }
 
-        long posts = feedRepo.countByAuthorIdAndStatus(meId, FeedStatus.PUBLISHED);
-        long followers = userFollowRepo.countByFollowingId(meId);
-        long followings = userFollowRepo.countByFollowerId(meId);
-        var latestFeeds = feedService.getLatestByAuthor(meId, meId);
+        UserStats stats = userStatsService.get(meId);
+        var latestFeeds = feedService.getLatestByAuthor(meId, meId, false);
 
-        return userMapper.toMe(me, posts, followers, followings, latestFeeds);
+        return userMapper.toMe(me, stats.getPostsCount(), stats.getFollowersCount(), stats.getFollowingsCount(), latestFeeds);
     }
 
 
@@ -283,6 +289,7 @@ public class UserService {
         User me = loadActiveForWrite(meId);
         me.softDelete(Instant.now(clock));
         me.bumpTokenVersion();
+        tokenVersionService.publishAfterCommit(me.getId());
         refreshTokenService.deleteAll(me.getId());
     }
 
@@ -305,6 +312,8 @@ public class UserService {
                 .build();
 
         userFollowRepo.save(f);
+        userStatsService.followed(meId, targetId);
+        homeTimelineService.invalidate(meId);
 
         return new FollowResponseDto(meId, targetId, true);
     }
@@ -312,7 +321,10 @@ public class UserService {
     // 팔로우 해제는 데이터 삭제 (멱등조치 Repo에서 해둠)
     @Transactional
     public void unfollow(Long meId, Long targetId) {
-        userFollowRepo.deleteLink(meId, targetId);
+        if (userFollowRepo.deleteLink(meId, targetId) > 0) {
+            userStatsService.unfollowed(meId, targetId);
+        }
+        homeTimelineService.invalidate(meId);
     }
 
     // 차단하기 전에 제약조건 확인 후 차단 생성
@@ -328,8 +340,12 @@ public class UserService {
         ensureNotAlreadyBlockedByMe(meId, targetId);
 
         // 차단 만들어지면 서로 팔로우 관계 해제
-        userFollowRepo.deleteLink(meId, targetId);
-        userFollowRepo.deleteLink(targetId, meId);
+        if (userFollowRepo.deleteLink(meId, targetId) > 0) {
+            userStatsService.unfollowed(meId, targetId);
+        }
+        if (userFollowRepo.deleteLink(targetId, meId) > 0) {
+            userStatsService.unfollowed(targetId, meId);
+        }
 
         // 나와 상대방 users 테이블 업데이트
         UserBlock b = UserBlock.builder()
@@ -337,6 +353,8 @@ public class UserService {
                 .blocked(em.getReference(User.class, targetId))
                 .build();
         userBlockRepo.save(b);
+        homeTimelineService.invalidate(meId, targetId);
+        userBlockSetCache.evict(meId, targetId);
         return new BlockResponseDto(meId, targetId, true);
     }
 
@@ -344,6 +362,7 @@ public class UserService {
     @Transactional
     public void unblock(Long meId, Long targetId) {
         userBlockRepo.deleteBlockLink(meId, targetId);
+        userBlockSetCache.evict(meId, targetId);
     }
 
     // 유저의 팔로우 한 목록 조회 (보는 유저가 viewer, 목록 보여주는 유저가 ownerId)
@@ -362,19 +381,23 @@ public class UserService {
         }
 
         // 목록을 보려는 유저와 목록 보이는 유저가 차단 관계 있으면 예외 반환 (프로필에서도 설정하지만 여기서도 설정)
-        if (userBlockRepo.existsAnyBlock(viewerId, userId)) {
+        java.util.Set<Long> blockedIds = userBlockSetCache.blockedWith(viewerId);
+        if (blockedIds.contains(userId)) {
             throw new BusinessException(ErrorCode.BLOCK_ALREADY_EXISTS);
         }
 
-        // 3) 목록 아이템은 "viewer 기준으로 차단 관계가 있는 팔로워는 제외"한 DB 결과 사용
-        var edges = userFollowRepo.findFollowersVisibleTo(
+        // 3) 목록 아이템은 "viewer 기준으로 차단 관계가 있는 팔로워는 제외" (커서는 필터 전 edge 기준)
+        var edges = userFollowRepo.findFollowers(
                 userId,
-                viewerId,
                 cursor,
                 PageRequest.of(0, pageSize)
         );
 
-        var followerIds = edges.stream()
+        var visible = edges.stream()
+                .filter(e -> !blockedIds.contains(e.getFollowerId()))
+                .toList();
+
+        var followerIds = visible.stream()
                 .map(e -> e.getFollower().getId())
                 .collect(java.util.stream.Collectors.toSet());
 
@@ -382,7 +405,7 @@ public class UserService {
                 ? java.util.Set.of()
                 : userFollowRepo.findFollowingIdsIn(viewerId, followerIds);
 
-        var items = edges.stream()
+        var items = visible.stream()
                 .map(e -> {
                     var u = e.getFollower();
                     boolean following = viewerId != null
@@ -443,7 +466,7 @@ public class UserService {
     // 프로필, 피드, 댓글, DM 의 경우에 서로간에 Block 존재하면 상대방 데이터 안보임
     // 그걸 위해서 이걸로 체크하고 넘어감
     private void ensureNoBlockBetween(Long meId, Long targetId) {
-        if (userBlockRepo.existsAnyBlock(meId, targetId)) {
+        if (userBlockSetCache.isBlocked(meId, targetId)) {
             throw new BusinessException(ErrorCode.BLOCK_ALREADY_EXISTS);
         }
     }
@@ -0,0 +1,60 @@
+package org.example.rippleback.features.user.app;
+
+import lombok.RequiredArgsConstructor;
+import org.example.rippleback.features.user.domain.UserStats;
+import org.example.rippleback.features.user.infra.UserStatsRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * 프로필 카운터(게시물/팔로워/팔로잉) 조회 및 갱신
+ * - 갱신은 호출한 쪽 트랜잭션에 함께 묶이고, row 가 없으면 그 트랜잭션에서 생성(upsert)
+ * - 프로필 조회 시 COUNT(*) 를 하지 않고 user_stats 한 row 만 읽는다
+ */
+@Service
+@RequiredArgsConstructor
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+
+    // row 가 없으면 COUNT 로 계산만 해서 반환 (읽기 경로에서는 쓰지 않음)
+    public UserStats get(Long userId) {
+        return userStatsRepository.findById(userId)
+                .orElseGet(() -> {
+                    UserStatsRepository.Counts counts = userStatsRepository.countCurrent(userId);
+                    return UserStats.builder()
+                            .userId(userId)
+                            .postsCount(counts.getPostsCount())
+                            .followersCount(counts.getFollowersCount())
+                            .followingsCount(counts.getFollowingsCount())
+                            .build();
+                });
+    }
+
+    public void postCreated(Long authorId) {
+        userStatsRepository.addCounts(authorId, 1, 0, 0);
+    }
+
+    public void postsDeleted(Long authorId, long count) {
+        if (count <= 0) return;
+        userStatsRepository.addCounts(authorId, -count, 0, 0);
+    }
+
+    public void followed(Long followerId, Long followingId) {
+        applyFollowDelta(followerId, followingId, 1);
+    }
+
+    public void unfollowed(Long followerId, Long followingId) {
+        applyFollowDelta(followerId, followingId, -1);
+    }
+
+    // 서로 맞팔 처리 중 데드락이 나지 않도록 항상 id 가 작은 row 부터 갱신
+    private void applyFollowDelta(Long followerId, Long followingId, long delta) {
+        if (followerId < followingId) {
+            userStatsRepository.addCounts(followerId, 0, 0, delta);
+            userStatsRepository.addCounts(followingId, 0, delta, 0);
+        } else {
+            userStatsRepository.addCounts(followingId, 0, delta, 0);
+            userStatsRepository.addCounts(followerId, 0, 0, delta);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.rippleback.features.user.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 프로필 화면용 카운터 (게시물/팔로워/팔로잉 수)
+ * - 팔로우/차단/피드 작성·삭제 트랜잭션 안에서 함께 갱신
+ * - row 가 없으면 첫 갱신 때 COUNT 로 생성, 그 전까지 조회는 COUNT 로 계산
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(name = "user_stats")
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "posts_count", nullable = false)
+    private long postsCount;
+
+    @Column(name = "followers_count", nullable = false)
+    private long followersCount;
+
+    @Column(name = "followings_count", nullable = false)
+    private long followingsCount;
+}
@@ -42,6 +42,14 @@ public interface UserBlockRepository extends JpaRepository<UserBlock, Long> {
     );
 
 
+    // userId 와 차단 관계(양방향)에 있는 상대 유저 id 전체 (idx_block_from / idx_block_to)
+    @Query("""
+                SELECT CASE WHEN b.blockerId = :userId THEN b.blockedId ELSE b.blockerId END
+                FROM UserBlock b
+                WHERE b.blockerId = :userId OR b.blockedId = :userId
+            """)
+    List<Long> findBlockCounterpartIds(@Param("userId") Long userId);
+
     default boolean existsMeBlockedTarget(Long meId, Long targetId) {
         return existsByBlockerIdAndBlockedId(meId, targetId);
     }
@@ -22,9 +22,15 @@ public interface UserFollowRepository extends JpaRepository<UserFollow, Long> {
 
     boolean existsByFollowerIdAndFollowingId(Long followerId, Long followingId);
 
+    boolean existsByFollowerId(Long followerId); // 팔로우하는 유저가 한 명이라도 있는지
+
     @Modifying
     @Query("delete from UserFollow f where f.followerId = :followerId and f.followingId = :followingId")
-    void deleteLink(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+    int deleteLink(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    // 홈 타임라인 fan-out 대상(팔로워) id
+    @Query("select f.followerId from UserFollow f where f.followingId = :userId")
+    List<Long> findFollowerIds(@Param("userId") Long userId, Pageable pageable);
 
     List<UserFollow> findByFollowingIdAndIdLessThanOrderByIdDesc(Long userId, Long cursor, Pageable page); // followers
 
@@ -34,24 +40,17 @@ public interface UserFollowRepository extends JpaRepository<UserFollow, Long> {
 
     List<UserFollow> findByFollowerIdOrderByIdDesc(Long userId, Pageable page);
 
-    // userId 로 받은 사용자와 차단관계가 존재하지 않는 사용자만 목록에 추가
+    // 팔로워 목록 (차단 관계는 서비스에서 viewer 의 차단 집합으로 걸러냄)
     @EntityGraph(attributePaths = {"follower", "follower.profileMedia"})
     @Query("""
             select f
             from UserFollow f
             where f.followingId = :userId
               and (:cursorId is null or f.id < :cursorId)
-              and not exists (
-                  select 1
-                  from UserBlock b
-                  where (b.blockerId = :viewerId and b.blockedId = f.followerId)
-                     or (b.blockerId = f.followerId and b.blockedId = :viewerId)
-              )
             order by f.id desc
             """)
-    List<UserFollow> findFollowersVisibleTo(
+    List<UserFollow> findFollowers(
             @Param("userId") Long userId,
-            @Param("viewerId") Long viewerId,
             @Param("cursorId") Long cursorId,
             Pageable pageable
     );
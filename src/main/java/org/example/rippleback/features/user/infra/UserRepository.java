@@ -1,7 +1,6 @@
 package org.example.rippleback.features.user.infra;
 
 import org.example.rippleback.features.user.domain.User;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -21,23 +20,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmailIgnoreCaseAndDeletedAtIsNull(String email);
 
-    @Query("""
-            select u
-            from User u
-            where u.deletedAt is null
-              and ( lower(u.username) like lower(concat('%', :q, '%'))
-                 or lower(u.email)    like lower(concat('%', :q, '%')) )
-              and (:cursorId is null or u.id < :cursorId)
-            order by u.id desc
-            """)
-    List<User> search(@Param("q") String q,
-                      @Param("cursorId") Long cursorId,
-                      Pageable pageable);
-
     @Modifying
     @Query("update User u set u.tokenVersion = u.tokenVersion + 1 where u.id = :userId")
     int incrementTokenVersion(@Param("userId") Long userId);
 
+    @Query("select u.tokenVersion from User u where u.id = :userId")
+    Optional<Long> findTokenVersionById(@Param("userId") Long userId);
+
+    // 잔액이 충분할 때만 차감 (부족하면 0)
+    @Modifying
+    @Query("update User u set u.credits = u.credits - :amount where u.id = :userId and u.credits >= :amount")
+    int decreaseCredits(@Param("userId") Long userId, @Param("amount") int amount);
+
     List<User> findByIdInAndDeletedAtIsNull(Collection<Long> ids);
 
     @Query("""
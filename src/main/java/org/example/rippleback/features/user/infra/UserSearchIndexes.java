@@ -0,0 +1,129 @@
+package org.example.rippleback.features.user.infra;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 유저 검색용 확장/인덱스 (JPA ddl-auto 로 표현할 수 없는 것들)
+ * - 기동 후 CREATE INDEX CONCURRENTLY 로 생성해서 users 쓰기를 막지 않음 (이미 있으면 아무것도 하지 않음)
+ * - CONCURRENTLY 는 트랜잭션 안에서 실행할 수 없으므로 autocommit 커넥션 하나에서 문장별로 실행
+ * - 빌드가 중간에 실패하면 INVALID 인덱스가 남아 IF NOT EXISTS 로는 다시 만들지 않으므로, INVALID 면 지우고 다시 만든다
+ * - 여러 인스턴스가 동시에 기동해도 advisory lock 으로 한 곳에서만 생성
+ * - pg_trgm 을 설치할 수 없는 DB(권한 없는 managed Postgres 등)는 경고 후 trigram 인덱스만 건너뜀, 그 외 실패는 기동 실패
+ * - 마이그레이션 도구로 관리하는 환경은 app.user.search.create-indexes=false
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSearchIndexes {
+
+    private static final long LOCK_KEY = 8_108_310_001L;
+
+    // insufficient_privilege, undefined_file(contrib 미설치)
+    private static final List<String> EXTENSION_UNAVAILABLE_STATES = List.of("42501", "58P01");
+
+    private static final List<Index> INDEXES = List.of(
+            // 부분 일치 / 유사도 (3글자 이상)
+            new Index("ix_users_username_trgm", true, """
+                    CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_users_username_trgm
+                        ON users USING gin (lower(username) gin_trgm_ops)
+                        WHERE deleted_at IS NULL
+                    """),
+            // 접두어 typeahead (C collation 이라 LIKE 'q%' 범위 스캔 + 정렬까지 인덱스로 처리)
+            new Index("ix_users_username_lower_c", false, """
+                    CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_users_username_lower_c
+                        ON users ((lower(username) COLLATE "C"))
+                        WHERE deleted_at IS NULL
+                    """),
+            // 이메일은 정확히 일치할 때만
+            new Index("ix_users_email_lower", false, """
+                    CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_users_email_lower
+                        ON users (lower(email))
+                        WHERE deleted_at IS NULL
+                    """)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserSearchRepository userSearchRepository;
+
+    @Value("${app.user.search.create-indexes:true}")
+    private boolean createIndexes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (createIndexes) {
+            jdbcTemplate.execute((ConnectionCallback<Void>) this::createAll);
+        }
+        userSearchRepository.detectTrigram();
+    }
+
+    private Void createAll(Connection con) throws SQLException {
+        con.setAutoCommit(true);
+        try (Statement st = con.createStatement()) {
+            st.execute("SELECT pg_advisory_lock(" + LOCK_KEY + ")");
+            try {
+                boolean trigram = createTrigramExtension(st);
+                for (Index index : INDEXES) {
+                    if (index.trigram() && !trigram) continue;
+                    create(con, st, index);
+                }
+            } finally {
+                st.execute("SELECT pg_advisory_unlock(" + LOCK_KEY + ")");
+            }
+        }
+        return null;
+    }
+
+    private boolean createTrigramExtension(Statement st) throws SQLException {
+        try {
+            st.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            return true;
+        } catch (SQLException e) {
+            if (!EXTENSION_UNAVAILABLE_STATES.contains(e.getSQLState())) throw e;
+            log.warn("pg_trgm extension is not available, skipping trigram index: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void create(Connection con, Statement st, Index index) throws SQLException {
+        Boolean valid = isValid(con, index.name());
+        if (Boolean.TRUE.equals(valid)) return;
+
+        if (valid != null) {
+            log.warn("dropping invalid index {} left by an interrupted build", index.name());
+            st.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index.name());
+        }
+
+        log.info("creating index {}", index.name());
+        long started = System.nanoTime();
+        st.execute(index.ddl());
+        log.info("created index {} in {} ms", index.name(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // 없으면 null
+    private Boolean isValid(Connection con, String name) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(
+                "SELECT i.indisvalid FROM pg_index i WHERE i.indexrelid = to_regclass(?)")) {
+            ps.setString(1, name);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getBoolean(1) : null;
+            }
+        }
+    }
+
+    private record Index(String name, boolean trigram, String ddl) {
+    }
+}
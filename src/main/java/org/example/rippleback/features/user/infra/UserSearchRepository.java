@@ -0,0 +1,126 @@
+package org.example.rippleback.features.user.infra;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 유저 검색 (id 만 반환, 정렬은 관련도 순)
+ * - 인덱스는 UserSearchIndexes 참고
+ * - 2글자 이하: username 접두어 일치 (ix_users_username_lower_c)
+ * - 3글자 이상: username 부분 일치 + 오타 허용 유사도 (ix_users_username_trgm), 정확 일치 > 접두어 > 유사도 순
+ * - 이메일: '@' 가 포함된 검색어만 정확히 일치 (ix_users_email_lower)
+ * - 커서는 이전 페이지 마지막 유저 id. 그 유저의 정렬 키를 다시 계산해서 그 뒤부터 조회 (keyset)
+ * - trigram 인덱스가 준비되지 않은 DB(pg_trgm 권한 없는 managed Postgres, 인덱스 생성 중 등)에서는
+ *   3글자 이상도 접두어 검색으로 대체 (요청 시점 SQL 오류/풀스캔 방지)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class UserSearchRepository {
+
+    private static final int TRIGRAM_MIN_LENGTH = 3;
+
+    // 커서 유저가 탈퇴했어도 정렬 키는 계산되도록 커서 쪽은 deleted_at 조건 없이 조회
+    private static final String PREFIX_SQL = """
+            SELECT u.id
+            FROM users u
+            WHERE u.deleted_at IS NULL
+              AND lower(u.username) COLLATE "C" LIKE :prefix ESCAPE '\\'
+              AND (CAST(:cursor AS bigint) IS NULL
+                   OR (lower(u.username) COLLATE "C", u.id)
+                      > (SELECT lower(c.username) COLLATE "C", c.id FROM users c WHERE c.id = :cursor))
+            ORDER BY lower(u.username) COLLATE "C", u.id
+            LIMIT :limit
+            """;
+
+    private static final String RANKED_SQL = """
+            SELECT r.id
+            FROM (SELECT u.id,
+                         lower(u.username) = :q AS exact,
+                         lower(u.username) LIKE :prefix ESCAPE '\\' AS prefix,
+                         similarity(lower(u.username), :q) AS score
+                  FROM users u
+                  WHERE u.deleted_at IS NULL
+                    AND (lower(u.username) LIKE :contains ESCAPE '\\' OR lower(u.username) % :q)) r
+            WHERE CAST(:cursor AS bigint) IS NULL
+               OR (r.exact, r.prefix, r.score, r.id)
+                  < (SELECT lower(c.username) = :q,
+                            lower(c.username) LIKE :prefix ESCAPE '\\',
+                            similarity(lower(c.username), :q),
+                            c.id
+                     FROM users c WHERE c.id = :cursor)
+            ORDER BY r.exact DESC, r.prefix DESC, r.score DESC, r.id DESC
+            LIMIT :limit
+            """;
+
+    private static final String EMAIL_SQL = """
+            SELECT u.id
+            FROM users u
+            WHERE u.deleted_at IS NULL
+              AND lower(u.email) = :q
+              AND (CAST(:cursor AS bigint) IS NULL OR u.id < :cursor)
+            ORDER BY u.id DESC
+            LIMIT :limit
+            """;
+
+    private static final String TRIGRAM_CHECK_SQL = """
+            SELECT EXISTS (SELECT 1 FROM pg_index i
+                           WHERE i.indexrelid = to_regclass('ix_users_username_trgm') AND i.indisvalid)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // 감지 전까지는 접두어 검색 (UserSearchIndexes 가 인덱스 생성 후 호출)
+    private volatile boolean trigramAvailable;
+
+    public void detectTrigram() {
+        try {
+            trigramAvailable = Boolean.TRUE.equals(
+                    jdbcTemplate.getJdbcTemplate().queryForObject(TRIGRAM_CHECK_SQL, Boolean.class));
+        } catch (DataAccessException e) {
+            trigramAvailable = false;
+            log.warn("trigram index check failed, user search falls back to prefix match", e);
+            return;
+        }
+        if (!trigramAvailable) {
+            log.warn("trigram index is not available, user search falls back to prefix match");
+        }
+    }
+
+    // cursor: 이전 페이지 마지막 유저 id (첫 페이지는 null)
+    public List<Long> searchIds(String query, Long cursor, int limit) {
+        String q = query.trim().toLowerCase(Locale.ROOT);
+        if (q.isEmpty()) return List.of();
+
+        String escaped = escapeLike(q);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("q", q)
+                .addValue("prefix", escaped + "%")
+                .addValue("contains", "%" + escaped + "%")
+                .addValue("cursor", cursor, Types.BIGINT)
+                .addValue("limit", limit);
+
+        String sql;
+        if (q.indexOf('@') >= 0) {
+            sql = EMAIL_SQL;
+        } else if (q.length() < TRIGRAM_MIN_LENGTH || !trigramAvailable) {
+            sql = PREFIX_SQL;
+        } else {
+            sql = RANKED_SQL;
+        }
+
+        return jdbcTemplate.queryForList(sql, params, Long.class);
+    }
+
+    private static String escapeLike(String s) {
+        return s.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
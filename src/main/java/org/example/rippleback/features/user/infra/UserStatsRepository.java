@@ -0,0 +1,46 @@
+package org.example.rippleback.features.user.infra;
+
+import org.example.rippleback.features.user.domain.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    interface Counts {
+        long getPostsCount();
+
+        long getFollowersCount();
+
+        long getFollowingsCount();
+    }
+
+    // row 가 있으면 delta 만큼 더하고, 없으면 현재 데이터 COUNT 로 생성
+    // - COUNT 는 이 트랜잭션의 변경(flush 된 follow/feed)을 이미 포함하므로 새 row 에는 delta 를 더하지 않음
+    // - 동시에 두 트랜잭션이 생성하려 하면 늦은 쪽은 ON CONFLICT 로 먼저 커밋된 row 에 delta 만 더함
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO user_stats (user_id, posts_count, followers_count, followings_count)
+            SELECT :userId,
+                   (SELECT COUNT(*) FROM feeds f WHERE f.author_id = :userId AND f.status = 'PUBLISHED'),
+                   (SELECT COUNT(*) FROM user_follow uf WHERE uf.to_user_id = :userId),
+                   (SELECT COUNT(*) FROM user_follow uf WHERE uf.from_user_id = :userId)
+            ON CONFLICT (user_id) DO UPDATE
+            SET posts_count = GREATEST(user_stats.posts_count + :posts, 0),
+                followers_count = GREATEST(user_stats.followers_count + :followers, 0),
+                followings_count = GREATEST(user_stats.followings_count + :followings, 0)
+            """, nativeQuery = true)
+    int addCounts(@Param("userId") Long userId,
+                  @Param("posts") long posts,
+                  @Param("followers") long followers,
+                  @Param("followings") long followings);
+
+    // 아직 row 가 없는 유저(카운터가 한 번도 바뀌지 않은 유저)의 조회용. 쓰지 않고 읽기만 함
+    @Query(value = """
+            SELECT (SELECT COUNT(*) FROM feeds f WHERE f.author_id = :userId AND f.status = 'PUBLISHED') AS postsCount,
+                   (SELECT COUNT(*) FROM user_follow uf WHERE uf.to_user_id = :userId) AS followersCount,
+                   (SELECT COUNT(*) FROM user_follow uf WHERE uf.from_user_id = :userId) AS followingsCount
+            """, nativeQuery = true)
+    Counts countCurrent(@Param("userId") Long userId);
+}
@@ -0,0 +1,122 @@
+package org.example.rippleback.infra.counter;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 카운터 증감분을 메모리(LongAdder)에 모아두는 버퍼
+ * - 요청 스레드는 row lock 없이 add 만 하고, CounterFlusher 가 주기적으로 drain 해서 DB 에 배치 반영
+ * - 조회 시에는 DB 값 + 아직 반영되지 않은 증감분(pending + in-flight)을 더해서 보여준다
+ */
+@Component
+public class CounterBuffer {
+
+    public record Key(CounterType type, long id) {
+    }
+
+    private final ConcurrentHashMap<Key, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // drain 됐지만 아직 커밋되지 않은 증감분 (조회 보정용)
+    private final ConcurrentHashMap<Key, Long> inFlight = new ConcurrentHashMap<>();
+
+    // 지난 drain 에서 유휴 상태라 map 에서 뺀 adder. 직전에 참조를 잡은 writer 가 늦게 더한 값을 다음 drain 에서 회수
+    private List<Map.Entry<Key, LongAdder>> retired = new ArrayList<>();
+
+    // 트랜잭션 안에서 호출되면 커밋된 뒤에 반영 (롤백된 좋아요가 집계되지 않도록)
+    public void increment(CounterType type, long id) {
+        addAfterCommit(type, id, 1);
+    }
+
+    public void decrement(CounterType type, long id) {
+        addAfterCommit(type, id, -1);
+    }
+
+    private void addAfterCommit(CounterType type, long id, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(type, id, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(type, id, delta);
+            }
+        });
+    }
+
+    public void add(CounterType type, long id, long delta) {
+        if (delta == 0) return;
+        add(new Key(type, id), delta);
+    }
+
+    private void add(Key key, long delta) {
+        LongAdder adder = pending.get(key);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.add(delta);
+    }
+
+    // 아직 DB 에 반영되지 않은 증감분
+    public long pending(CounterType type, long id) {
+        Key key = new Key(type, id);
+        LongAdder adder = pending.get(key);
+        Long flushing = inFlight.get(key);
+        return (adder == null ? 0 : adder.sum()) + (flushing == null ? 0 : flushing);
+    }
+
+    // DB 에서 읽은 값에 반영 대기 중인 증감분을 더한 값
+    public int overlay(CounterType type, Long id, int persisted) {
+        if (id == null) return persisted;
+        long value = persisted + pending(type, id);
+        return (int) Math.max(0, Math.min(value, Integer.MAX_VALUE));
+    }
+
+    /**
+     * 모인 증감분을 꺼내서 in-flight 로 옮긴다.
+     * 반영 결과에 따라 complete / restore 중 하나를 반드시 호출해야 한다.
+     */
+    public synchronized Map<Key, Long> drain() {
+        Map<Key, Long> batch = new HashMap<>();
+
+        for (Map.Entry<Key, LongAdder> e : retired) {
+            long late = e.getValue().sumThenReset();
+            if (late != 0) batch.merge(e.getKey(), late, Long::sum);
+        }
+        retired = new ArrayList<>();
+
+        for (Map.Entry<Key, LongAdder> e : pending.entrySet()) {
+            long delta = e.getValue().sumThenReset();
+            if (delta != 0) {
+                batch.merge(e.getKey(), delta, Long::sum);
+            } else if (pending.remove(e.getKey(), e.getValue())) {
+                // 한 주기 동안 변화가 없던 키는 정리 (메모리 상한)
+                retired.add(Map.entry(e.getKey(), e.getValue()));
+            }
+        }
+
+        batch.values().removeIf(v -> v == 0);
+        batch.forEach((key, delta) -> inFlight.merge(key, delta, Long::sum));
+        return batch;
+    }
+
+    // DB 반영 성공
+    public void complete(Map<Key, Long> batch) {
+        batch.forEach((key, delta) ->
+                inFlight.computeIfPresent(key, (k, v) -> v - delta == 0 ? null : v - delta));
+    }
+
+    // DB 반영 실패: 다음 flush 때 다시 시도
+    public void restore(Map<Key, Long> batch) {
+        batch.forEach(this::add);
+        complete(batch);
+    }
+}
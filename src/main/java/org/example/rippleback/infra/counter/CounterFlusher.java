@@ -0,0 +1,67 @@
+package org.example.rippleback.infra.counter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * CounterBuffer 에 모인 증감분을 주기적으로 DB 에 반영
+ * - 타입별 batch UPDATE 한 번, 한 트랜잭션
+ * - 여러 노드가 같은 row 를 갱신할 때 데드락이 나지 않도록 id 순으로 정렬해서 갱신
+ * - DB I/O 를 감싸므로 synchronized 대신 ReentrantLock (virtual thread 가 carrier 에 고정되지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterFlusher {
+
+    private final CounterBuffer buffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Scheduled(fixedDelayString = "${app.counter.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<CounterBuffer.Key, Long> batch = buffer.drain();
+            if (batch.isEmpty()) return;
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(batch));
+                buffer.complete(batch);
+            } catch (RuntimeException e) {
+                log.warn("counter flush failed, will retry. size={}", batch.size(), e);
+                buffer.restore(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(Map<CounterBuffer.Key, Long> batch) {
+        Map<CounterType, List<Object[]>> rowsByType = new EnumMap<>(CounterType.class);
+
+        batch.entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<CounterBuffer.Key, Long> e) -> e.getKey().type())
+                        .thenComparingLong(e -> e.getKey().id()))
+                .forEach(e -> rowsByType
+                        .computeIfAbsent(e.getKey().type(), t -> new ArrayList<>())
+                        .add(new Object[]{e.getValue(), e.getKey().id()}));
+
+        rowsByType.forEach((type, rows) -> jdbcTemplate.batchUpdate(type.updateSql(), rows));
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.rippleback.infra.counter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * write-behind 로 모아서 반영하는 카운터 컬럼 목록
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CounterType {
+
+    FEED_LIKE("feeds", "like_count"),
+    FEED_BOOKMARK("feeds", "bookmark_count"),
+    FEED_COMMENT("feeds", "comment_count"),
+    FEED_VIEW("feeds", "view_count"),
+    COMMENT_LIKE("comment", "like_count");
+
+    private final String table;
+    private final String column;
+
+    // 음수로 내려가지 않도록 GREATEST 로 보정
+    String updateSql() {
+        return "UPDATE " + table + " SET " + column + " = GREATEST(" + column + " + ?, 0) WHERE id = ?";
+    }
+}
@@ -1,5 +1,21 @@
 package org.example.rippleback.infra.mail;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface EmailSender {
     void send(String to, String subject, String text);
+
+    // 여러 통을 한 번에 발송하고 실패한 메일만 반환 (구현체는 SMTP 연결을 재사용)
+    default List<OutgoingMail> sendAll(List<OutgoingMail> mails) {
+        List<OutgoingMail> failed = new ArrayList<>();
+        for (OutgoingMail m : mails) {
+            try {
+                send(m.to(), m.subject(), m.text());
+            } catch (RuntimeException e) {
+                failed.add(m);
+            }
+        }
+        return failed;
+    }
 }
\ No newline at end of file
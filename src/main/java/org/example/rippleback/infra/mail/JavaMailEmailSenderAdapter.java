@@ -3,10 +3,17 @@ package org.example.rippleback.infra.mail;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 @ConditionalOnProperty(prefix = "spring.mail", name = "host")
@@ -16,11 +23,41 @@ public class JavaMailEmailSenderAdapter implements EmailSender {
 
     @Override
     public void send(String to, String subject, String text) {
+        mailSender.send(message(to, subject, text));
+    }
+
+    // JavaMailSender 는 배열로 받은 메시지를 하나의 Transport 연결로 보냄 (건마다 SMTP 핸드셰이크를 하지 않음)
+    @Override
+    public List<OutgoingMail> sendAll(List<OutgoingMail> mails) {
+        if (mails.isEmpty()) return List.of();
+
+        Map<SimpleMailMessage, OutgoingMail> byMessage = new IdentityHashMap<>();
+        for (OutgoingMail m : mails) byMessage.put(message(m.to(), m.subject(), m.text()), m);
+
+        try {
+            mailSender.send(byMessage.keySet().toArray(SimpleMailMessage[]::new));
+            return List.of();
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) return mails;
+            List<OutgoingMail> failed = new ArrayList<>();
+            failedMessages.keySet().forEach(k -> {
+                OutgoingMail m = byMessage.get(k);
+                if (m != null) failed.add(m);
+            });
+            return failed.isEmpty() ? mails : failed;
+        } catch (MailException e) {
+            // 연결/인증 실패는 배치 전체가 실패
+            return mails;
+        }
+    }
+
+    private SimpleMailMessage message(String to, String subject, String text) {
         SimpleMailMessage m = new SimpleMailMessage();
         m.setFrom(from);
         m.setTo(to);
         m.setSubject(subject);
         m.setText(text);
-        mailSender.send(m);
+        return m;
     }
 }
@@ -0,0 +1,328 @@
+package org.example.rippleback.infra.mail;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisListCommands.Direction;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Redis 기반 메일 발송 큐
+ * - mail:queue (list): 요청 스레드는 LPUSH 만 하고 바로 반환
+ * - 워커(virtual thread)는 BLMOVE 로 mail:processing:{node} 에 옮긴 뒤 batch 로 발송하고 LREM 으로 완료 처리
+ * - 노드는 mail:lease:{node} 를 lease TTL 로 주기적으로 갱신하고 mail:nodes 에 자신을 등록
+ *   lease 가 만료된 노드(죽었거나 scale-down 된 pod)의 processing 목록은 살아 있는 아무 노드나 큐로 되돌림
+ *   (같은 node-id 로 재기동하지 않아도 유실 없음, 대신 중복 발송은 있을 수 있음)
+ * - 실패한 메일은 mail:retry (zset, score = 다음 시도 시각) 에 지수 backoff 로 넣고,
+ *   max-attempts 를 넘기면 mail:dlq (list) 로 보냄
+ * - 유효 시간(expiresAt)이 지난 메일은 보내지도, 재시도하지도 않고 버림 (만료된 인증 코드 발송 방지)
+ * - mail:dlq 는 본문을 지운 채 최근 dlq-max-size 건만, 마지막 추가 후 dlq-ttl 동안만 보관
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailQueue {
+
+    private static final String QUEUE_KEY = "mail:queue";
+    private static final String PROCESSING_KEY_PREFIX = "mail:processing:";
+    private static final String LEASE_KEY_PREFIX = "mail:lease:";
+    private static final String NODES_KEY = "mail:nodes";
+    private static final String RETRY_KEY = "mail:retry";
+    private static final String DLQ_KEY = "mail:dlq";
+
+    private static final int PROMOTE_BATCH_SIZE = 100;
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+
+    // 시각이 된 재시도 메일을 queue 로 옮김 (여러 노드가 동시에 실행해도 한 번만 옮겨짐)
+    private static final RedisScript<Long> PROMOTE_SCRIPT = new DefaultRedisScript<>("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            for _, v in ipairs(due) do
+              redis.call('ZREM', KEYS[1], v)
+              redis.call('LPUSH', KEYS[2], v)
+            end
+            return #due
+            """, Long.class);
+
+    // DLQ 에 추가하고 최근 ARGV[2] 건만 남긴 뒤 만료 시간을 다시 걺
+    private static final RedisScript<Long> DEAD_LETTER_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('LPUSH', KEYS[1], ARGV[1])
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // lease 가 없는 노드의 processing 목록을 큐의 소비 쪽으로 옮기고 등록 해제 (lease 가 살아 있으면 -1)
+    // 오래된 메일이 먼저 다시 나가도록 processing 의 최신 쪽부터 큐 오른쪽에 붙임
+    private static final RedisScript<Long> RECLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return -1 end
+            local n = 0
+            while redis.call('LMOVE', KEYS[2], KEYS[3], 'LEFT', 'RIGHT') do n = n + 1 end
+            redis.call('SREM', KEYS[4], ARGV[1])
+            return n
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final EmailSender emailSender;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    private final List<Thread> workers = new CopyOnWriteArrayList<>();
+    private volatile boolean running;
+
+    @Value("${app.mail.queue.node-id:${HOSTNAME:local}}")
+    private String nodeId;
+
+    @Value("${app.mail.queue.workers:2}")
+    private int workerCount;
+
+    @Value("${app.mail.queue.batch-size:20}")
+    private int batchSize;
+
+    @Value("${app.mail.queue.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.mail.queue.base-backoff:5s}")
+    private Duration baseBackoff;
+
+    @Value("${app.mail.queue.poll-timeout:2s}")
+    private Duration pollTimeout;
+
+    @Value("${app.mail.queue.lease:30s}")
+    private Duration lease;
+
+    @Value("${app.mail.queue.dlq-max-size:1000}")
+    private int dlqMaxSize;
+
+    @Value("${app.mail.queue.dlq-ttl:7d}")
+    private Duration dlqTtl;
+
+    public void enqueue(String to, String subject, String text) {
+        push(new OutgoingMail(UUID.randomUUID().toString(), to, subject, text, 0, 0));
+    }
+
+    // validFor 가 지나면 발송/재시도하지 않음
+    public void enqueue(String to, String subject, String text, Duration validFor) {
+        long expiresAt = clock.millis() + validFor.toMillis();
+        push(new OutgoingMail(UUID.randomUUID().toString(), to, subject, text, 0, expiresAt));
+    }
+
+    private void push(OutgoingMail mail) {
+        redisTemplate.opsForList().leftPush(QUEUE_KEY, write(mail));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        recoverProcessing();
+        running = true;
+        heartbeat();
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual()
+                    .name("mail-worker-" + i)
+                    .start(this::runWorker));
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        // 진행 중인 batch 는 마저 보내고, 못 보낸 건 processing 에 남아 다음 기동 때 복구
+        boolean allStopped = true;
+        for (Thread worker : workers) {
+            allStopped &= worker.join(pollTimeout.plusSeconds(5));
+        }
+        workers.clear();
+        // 워커가 모두 끝났으면 lease 를 바로 놓아 남은 메일을 다른 노드가 곧바로 가져가게 함
+        if (allStopped) {
+            try {
+                redisTemplate.delete(leaseKey(nodeId));
+            } catch (RuntimeException e) {
+                log.warn("mail lease release failed. node={}", nodeId, e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.queue.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        if (!running) return;
+        try {
+            redisTemplate.opsForValue().set(leaseKey(nodeId), "1", lease);
+            redisTemplate.opsForSet().add(NODES_KEY, nodeId);
+        } catch (RuntimeException e) {
+            log.warn("mail lease heartbeat failed. node={}", nodeId, e);
+        }
+    }
+
+    // lease 가 만료된 다른 노드의 발송 중 메일을 큐로 되돌림 (여러 노드가 동시에 실행해도 스크립트가 원자적)
+    @Scheduled(fixedDelayString = "${app.mail.queue.reclaim-interval-ms:30000}")
+    public void reclaimExpired() {
+        try {
+            Set<String> nodes = redisTemplate.opsForSet().members(NODES_KEY);
+            if (nodes == null) return;
+            for (String node : nodes) {
+                if (node.equals(nodeId)) continue;
+                Long moved = redisTemplate.execute(RECLAIM_SCRIPT,
+                        List.of(leaseKey(node), PROCESSING_KEY_PREFIX + node, QUEUE_KEY, NODES_KEY), node);
+                if (moved != null && moved > 0) {
+                    log.info("requeued {} in-flight mails from expired node {}", moved, node);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("mail reclaim failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.queue.retry-interval-ms:1000}")
+    public void promoteDueRetries() {
+        try {
+            redisTemplate.execute(PROMOTE_SCRIPT, List.of(RETRY_KEY, QUEUE_KEY),
+                    String.valueOf(clock.millis()), String.valueOf(PROMOTE_BATCH_SIZE));
+        } catch (RuntimeException e) {
+            log.warn("mail retry promotion failed", e);
+        }
+    }
+
+    private void runWorker() {
+        ListOperations<String, String> list = redisTemplate.opsForList();
+        String processingKey = processingKey();
+
+        while (running) {
+            try {
+                String first = list.move(QUEUE_KEY, Direction.RIGHT, processingKey, Direction.LEFT, pollTimeout);
+                if (first == null) continue;
+
+                List<String> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                String next;
+                while (batch.size() < batchSize
+                        && (next = list.move(QUEUE_KEY, Direction.RIGHT, processingKey, Direction.LEFT)) != null) {
+                    batch.add(next);
+                }
+                dispatch(batch);
+            } catch (RuntimeException e) {
+                if (!running) break;
+                log.warn("mail worker failed, backing off", e);
+                sleepQuietly(pollTimeout);
+            }
+        }
+    }
+
+    private void dispatch(List<String> payloads) {
+        long now = clock.millis();
+        List<OutgoingMail> mails = new ArrayList<>(payloads.size());
+        for (String payload : payloads) {
+            OutgoingMail mail = read(payload);
+            if (mail == null) {
+                log.warn("unreadable mail payload moved to dlq");
+                deadLetter(payload);
+            } else if (mail.expiredAt(now)) {
+                log.warn("mail expired before sending, dropped. id={} attempts={}", mail.id(), mail.attempts());
+            } else {
+                mails.add(mail);
+            }
+        }
+
+        List<OutgoingMail> failed;
+        try {
+            failed = mails.isEmpty() ? List.of() : emailSender.sendAll(mails);
+        } catch (RuntimeException e) {
+            log.warn("mail batch send failed. size={}", mails.size(), e);
+            failed = mails;
+        }
+        for (OutgoingMail mail : failed) {
+            OutgoingMail retried = mail.retried();
+            long at = clock.millis() + backoff(retried.attempts()).toMillis();
+            if (retried.attempts() >= maxAttempts) {
+                log.warn("mail dead-lettered after {} attempts. id={}", retried.attempts(), mail.id());
+                deadLetter(write(retried.redacted()));
+            } else if (retried.expiredAt(at)) {
+                log.warn("mail expires before next attempt, dropped. id={} attempts={}", mail.id(), retried.attempts());
+            } else {
+                redisTemplate.opsForZSet().add(RETRY_KEY, write(retried), at);
+            }
+        }
+
+        // 재시도/DLQ 에 넣은 뒤 processing 에서 제거 (중간에 죽으면 중복 발송은 있어도 유실은 없음)
+        String processingKey = processingKey();
+        for (String payload : payloads) {
+            redisTemplate.opsForList().remove(processingKey, 1, payload);
+        }
+    }
+
+    // 최근 dlqMaxSize 건만 남기고, 더 이상 추가되지 않으면 dlqTtl 뒤 통째로 만료
+    private void deadLetter(String payload) {
+        redisTemplate.execute(DEAD_LETTER_SCRIPT, List.of(DLQ_KEY),
+                payload, String.valueOf(dlqMaxSize), String.valueOf(dlqTtl.toMillis()));
+    }
+
+    // 이전 실행에서 발송하지 못한 메일을 큐로 되돌림
+    private void recoverProcessing() {
+        String processingKey = processingKey();
+        try {
+            int recovered = 0;
+            while (redisTemplate.opsForList().move(processingKey, Direction.RIGHT, QUEUE_KEY, Direction.RIGHT) != null) {
+                recovered++;
+            }
+            if (recovered > 0) log.info("requeued {} in-flight mails from previous run", recovered);
+        } catch (RuntimeException e) {
+            log.warn("mail processing recovery failed. node={}", nodeId, e);
+        }
+    }
+
+    // base * 2^(attempts-1), 최대 MAX_BACKOFF
+    Duration backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration d = baseBackoff.multipliedBy(1L << shift);
+        return d.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : d;
+    }
+
+    private String processingKey() {
+        return PROCESSING_KEY_PREFIX + nodeId;
+    }
+
+    private static String leaseKey(String node) {
+        return LEASE_KEY_PREFIX + node;
+    }
+
+    private String write(OutgoingMail mail) {
+        try {
+            return objectMapper.writeValueAsString(mail);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("mail serialization failed", e);
+        }
+    }
+
+    private OutgoingMail read(String payload) {
+        try {
+            return objectMapper.readValue(payload, OutgoingMail.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void sleepQuietly(Duration d) {
+        try {
+            Thread.sleep(d);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.rippleback.infra.mail;
+
+/**
+ * 발송 대기 중인 메일 (MailQueue 에 JSON 으로 저장)
+ * - id 는 같은 내용의 메일도 큐에서 구분되도록 매 건 새로 발급
+ * - expiresAt(epoch millis) 이 지나면 보내지 않음 (인증 코드처럼 유효 시간이 있는 메일), 0 이면 만료 없음
+ */
+public record OutgoingMail(String id, String to, String subject, String text, int attempts, long expiresAt) {
+
+    public OutgoingMail retried() {
+        return new OutgoingMail(id, to, subject, text, attempts + 1, expiresAt);
+    }
+
+    // DLQ 보관용: 본문(인증 코드 등)은 남기지 않음
+    public OutgoingMail redacted() {
+        return new OutgoingMail(id, to, subject, null, attempts, expiresAt);
+    }
+
+    public boolean expiredAt(long epochMillis) {
+        return expiresAt > 0 && epochMillis >= expiresAt;
+    }
+}
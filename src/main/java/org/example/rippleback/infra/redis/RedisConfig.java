@@ -5,7 +5,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -27,4 +29,15 @@ public class    RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    // pub/sub 구독 (채팅 노드 간 중계 등). 수신 처리는 virtual thread 에서
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("redis-sub-");
+        executor.setVirtualThreads(true);
+        container.setTaskExecutor(executor);
+        return container;
+    }
 }
\ No newline at end of file
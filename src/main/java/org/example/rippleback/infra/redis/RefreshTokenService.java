@@ -1,15 +1,26 @@
 package org.example.rippleback.infra.redis;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
+/**
+ * 디바이스별 RT 저장소
+ * - rt:{userId}:{deviceId} HASH(jti, hash), rtdev:{userId} SET(deviceId), rjti:{jti} 사용된 jti
+ * - rjtig:{jti}: 회전 직후 grace 기간 표시 (동시 갱신 요청 구분용)
+ * - 여러 명령이 필요한 경로는 Lua 스크립트로 한 번의 round trip 에 원자적으로 처리
+ * - 단일 노드(또는 sentinel) Redis 전제: DELETE_ALL 은 KEYS 로 넘기지 않은 rt:{userId}:{deviceId} 키를 스크립트 안에서 만들고,
+ *   ROTATE 의 rjti 키는 유저 키와 다른 slot 이라 Cluster 에서는 동작하지 않음
+ *   (Cluster 로 옮길 때는 모든 키를 유저 단위 hash tag 로 바꿔야 함. 예: rt:{42}:d1, rjti:{42}:jti)
+ */
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
@@ -19,10 +30,84 @@ public class RefreshTokenService {
     private static final String RT_KEY_PREFIX = "rt:";
     private static final String RJTI_KEY = "rjti:";
     private static final String DEVICES_KEY_PREFIX = "rtdev:";
+    private static final String RJTI_GRACE_KEY = "rjtig:";
+
+    // HSET + PEXPIRE + SADD (디바이스 목록은 가장 늦게 만료되는 RT 만큼 유지)
+    private static final RedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'jti', ARGV[1], 'hash', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            redis.call('SADD', KEYS[2], ARGV[4])
+            if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[3]) then
+              redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            return redis.call('SREM', KEYS[2], ARGV[1])
+            """, Long.class);
+
+    // 디바이스 목록의 RT 키와 목록 자체를 DEL 한 번으로 삭제
+    private static final RedisScript<Long> DELETE_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local devices = redis.call('SMEMBERS', KEYS[1])
+            local keys = { KEYS[1] }
+            for _, device in ipairs(devices) do
+              keys[#keys + 1] = ARGV[1] .. device
+            end
+            return redis.call('DEL', unpack(keys))
+            """, Long.class);
+
+    /**
+     * RT 회전: 기존 jti/hash 검증 -> 사용 처리 -> 새 RT 저장을 한 번에
+     * - 이미 사용된 jti 라도 grace 안이면 동시 요청(RACE)으로 보고 재사용으로 처리하지 않음
+     * - KEYS: rt 키, 디바이스 목록, rjti:{기존 jti}, rjtig:{기존 jti}
+     * - ARGV: 기존 jti, 기존 hash, 새 jti, 새 hash, 새 RT ttl, 사용 표시 ttl, deviceId, grace
+     */
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+              if redis.call('EXISTS', KEYS[4]) == 1 then
+                return 'RACE'
+              end
+              return 'REUSED'
+            end
+            local current = redis.call('HMGET', KEYS[1], 'jti', 'hash')
+            if not current[1] then
+              return 'NOT_FOUND'
+            end
+            if current[1] ~= ARGV[1] or current[2] ~= ARGV[2] then
+              redis.call('DEL', KEYS[1])
+              redis.call('SREM', KEYS[2], ARGV[7])
+              return 'MISMATCH'
+            end
+            redis.call('SET', KEYS[3], '1', 'PX', ARGV[6])
+            if tonumber(ARGV[8]) > 0 then
+              redis.call('SET', KEYS[4], '1', 'PX', ARGV[8])
+            end
+            redis.call('HSET', KEYS[1], 'jti', ARGV[3], 'hash', ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            redis.call('SADD', KEYS[2], ARGV[7])
+            if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[5]) then
+              redis.call('PEXPIRE', KEYS[2], ARGV[5])
+            end
+            return 'OK'
+            """, String.class);
 
     public record RefreshEntry(String jti, String hash) {
     }
 
+    public enum RotateResult {
+        OK,
+        REUSED,     // grace 가 지난 뒤 사용된 jti 를 다시 제출
+        RACE,       // 같은 RT 로 동시에 들어온 요청 중 늦은 쪽
+        NOT_FOUND,
+        MISMATCH
+    }
+
+    // 같은 RT 로 동시에 들어온 갱신 요청을 재사용으로 보지 않는 시간
+    @Value("${app.auth.refresh-grace:10s}")
+    private Duration refreshGrace;
+
     private String rtKey(Long userId, String deviceId) {
         return RT_KEY_PREFIX + userId + ":" + deviceId;
     }
@@ -32,41 +117,43 @@ public class RefreshTokenService {
     }
 
     public void store(Long userId, String deviceId, String jti, String hash, long ttlMillis) {
-        String key = rtKey(userId, deviceId);
-        HashOperations<String, String, String> ops = redisTemplate.opsForHash();
-        ops.putAll(key, Map.of("jti", jti, "hash", hash));
-        redisTemplate.expire(key, Duration.ofMillis(ttlMillis));
-        redisTemplate.opsForSet().add(devicesKey(userId), deviceId);
+        redisTemplate.execute(STORE_SCRIPT,
+                List.of(rtKey(userId, deviceId), devicesKey(userId)),
+                jti, hash, String.valueOf(ttlMillis), deviceId);
     }
 
     public Optional<RefreshEntry> get(Long userId, String deviceId) {
-        String key = rtKey(userId, deviceId);
         HashOperations<String, String, String> ops = redisTemplate.opsForHash();
-        String jti = ops.get(key, "jti");
-        String hash = ops.get(key, "hash");
+        List<String> values = ops.multiGet(rtKey(userId, deviceId), List.of("jti", "hash"));
+        if (values == null || values.size() < 2) return Optional.empty();
+        String jti = values.get(0);
+        String hash = values.get(1);
         if (jti == null || hash == null) return Optional.empty();
         return Optional.of(new RefreshEntry(jti, hash));
     }
 
     public void delete(Long userId, String deviceId) {
-        redisTemplate.delete(rtKey(userId, deviceId));
-        redisTemplate.opsForSet().remove(devicesKey(userId), deviceId);
+        redisTemplate.execute(DELETE_SCRIPT,
+                List.of(rtKey(userId, deviceId), devicesKey(userId)),
+                deviceId);
     }
 
     public void deleteAll(Long userId) {
-        String dkey = devicesKey(userId);
-        Set<String> devices = redisTemplate.opsForSet().members(dkey);
-        if (devices != null && !devices.isEmpty()) {
-            devices.forEach(dev -> redisTemplate.delete(rtKey(userId, dev)));
-        }
-        redisTemplate.delete(dkey);
-    }
-
-    public void markUsed(String jti, long ttlMillis) {
-        redisTemplate.opsForValue().set(RJTI_KEY + jti, "1", Duration.ofMillis(ttlMillis));
+        redisTemplate.execute(DELETE_ALL_SCRIPT,
+                List.of(devicesKey(userId)),
+                RT_KEY_PREFIX + userId + ":");
     }
 
-    public boolean isUsed(String jti) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(RJTI_KEY + jti));
+    public RotateResult rotate(Long userId, String deviceId,
+                               String oldJti, String oldHash, long usedTtlMillis,
+                               String newJti, String newHash, long newTtlMillis) {
+        String result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(rtKey(userId, deviceId), devicesKey(userId), RJTI_KEY + oldJti, RJTI_GRACE_KEY + oldJti),
+                oldJti, oldHash, newJti, newHash,
+                String.valueOf(newTtlMillis),
+                String.valueOf(usedTtlMillis),
+                deviceId,
+                String.valueOf(Math.min(refreshGrace.toMillis(), usedTtlMillis)));
+        return RotateResult.valueOf(result);
     }
 }
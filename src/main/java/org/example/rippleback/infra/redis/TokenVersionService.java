@@ -0,0 +1,151 @@
+package org.example.rippleback.infra.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.rippleback.core.error.BusinessException;
+import org.example.rippleback.core.error.ErrorCode;
+import org.example.rippleback.features.user.infra.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 현재 토큰 버전 (access token 의 ver claim 보다 크면 폐기된 토큰)
+ * - 조회: 노드 near-cache(Caffeine) -> Redis(tv:{userId}) -> DB 순
+ * - 버전이 올라가면 커밋 후 Redis 값을 덮어쓰고 tv:invalidate 채널로 알려 모든 노드의 near-cache 를 비움
+ * - DB 에서 채울 때는 SETNX 라서, 커밋 전에 읽은 옛 값이 새 값을 덮어쓰지 못함
+ * - near-cache miss 시 Redis/DB 조회는 Caffeine compute 밖에서 하고 결과만 넣음 (virtual thread 가 carrier 에 고정되지 않도록)
+ *   조회 도중 무효화가 있었으면(invalidations 변경) 읽은 값을 캐시에 넣지 않음
+ */
+@Slf4j
+@Service
+public class TokenVersionService {
+
+    private static final String KEY_PREFIX = "tv:";
+    private static final String INVALIDATE_CHANNEL = "tv:invalidate";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final UserRepository userRepository;
+    private final Duration redisTtl;
+    private final Cache<Long, Long> nearCache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TokenVersionService(RedisTemplate<String, String> redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               UserRepository userRepository,
+                               @Value("${app.security.token-version.near-cache-ttl:30s}") Duration nearCacheTtl,
+                               @Value("${app.security.token-version.near-cache-size:100000}") long nearCacheSize,
+                               @Value("${app.security.token-version.redis-ttl:24h}") Duration redisTtl) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.userRepository = userRepository;
+        this.redisTtl = redisTtl;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheSize)
+                .expireAfterWrite(nearCacheTtl)
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                invalidateNear(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+            } catch (NumberFormatException e) {
+                log.warn("invalid token version invalidation message");
+            }
+        }, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    public long currentVersion(Long userId) {
+        Long cached = nearCache.getIfPresent(userId);
+        if (cached != null) return cached;
+
+        long seen = invalidations.get();
+        Long version = load(userId);
+        // compute 는 I/O 없이 값만 넣음. 무효화의 증가 -> invalidate 순서와 맞물려 옛 값이 남지 않음
+        nearCache.asMap().compute(userId, (id, current) -> invalidations.get() == seen ? version : current);
+        return version;
+    }
+
+    private void invalidateNear(Long userId) {
+        invalidations.incrementAndGet();
+        nearCache.invalidate(userId);
+    }
+
+    private Long load(Long userId) {
+        try {
+            String cached = redisTemplate.opsForValue().get(key(userId));
+            if (cached != null) return Long.valueOf(cached);
+        } catch (DataAccessException e) {
+            log.warn("token version redis read failed, falling back to db. userId={}", userId, e);
+            return loadFromDb(userId);
+        }
+
+        long version = loadFromDb(userId);
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key(userId), String.valueOf(version), redisTtl);
+        } catch (DataAccessException e) {
+            log.warn("token version redis write failed. userId={}", userId, e);
+        }
+        return version;
+    }
+
+    private long loadFromDb(Long userId) {
+        return userRepository.findTokenVersionById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    /**
+     * 토큰 버전을 올려 발급된 모든 토큰을 폐기
+     * 호출한 쪽 트랜잭션이 예외로 롤백돼도(재사용 감지 등) 폐기는 유지되도록 별도 트랜잭션
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void revoke(Long userId) {
+        userRepository.incrementTokenVersion(userId);
+        publishAfterCommit(userId);
+    }
+
+    // 현재 트랜잭션에서 엔티티로 버전을 올린 경우 (커밋 후 전파)
+    public void publishAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(userId);
+            }
+        });
+    }
+
+    private void publish(Long userId) {
+        invalidateNear(userId);
+        try {
+            redisTemplate.opsForValue().set(key(userId), String.valueOf(loadFromDb(userId)), redisTtl);
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(userId));
+        } catch (DataAccessException e) {
+            // 다른 노드는 near-cache 만료(app.security.token-version.near-cache-ttl) 후 반영
+            log.warn("token version publish failed. userId={}", userId, e);
+        }
+    }
+}
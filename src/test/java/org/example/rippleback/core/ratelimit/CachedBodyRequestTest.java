@@ -0,0 +1,50 @@
+package org.example.rippleback.core.ratelimit;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedBodyRequestTest {
+
+    @Test
+    void read_listener_receives_cached_body_then_all_data_read() {
+        byte[] body = "{\"username\":\"alice\"}".getBytes(StandardCharsets.UTF_8);
+        ServletInputStream in = new CachedBodyRequest(new MockHttpServletRequest(), body).getInputStream();
+
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> events = new ArrayList<>();
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                events.add("data");
+                byte[] buf = new byte[8];
+                while (in.isReady() && !in.isFinished()) {
+                    int n = in.read(buf);
+                    if (n > 0) read.write(buf, 0, n);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertThat(events).containsExactly("data", "done");
+        assertThat(read.toByteArray()).isEqualTo(body);
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.rippleback.core.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RateLimitFilterTest {
+
+    private static final int LIMIT = 2;
+    private static final long RETRY_AFTER_MS = 30_000;
+
+    private RedisTemplate<String, String> redisTemplate;
+    private MockMvc mvc;
+
+    @RestController
+    static class LoginStub {
+        @PostMapping("/api/auth/login")
+        String login(@RequestBody Map<String, Object> body) {
+            return String.valueOf(body.get("username"));
+        }
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        // ACQUIRE_SCRIPT 대신 키별 카운터: limit 안이면 0, 넘으면 RETRY_AFTER_MS
+        Map<String, Integer> counts = new HashMap<>();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any()))
+                .thenAnswer(inv -> {
+                    String key = ((List<String>) inv.getArgument(1)).get(0);
+                    int limit = Integer.parseInt(inv.getArgument(4));
+                    int used = counts.merge(key, 1, Integer::sum);
+                    return used <= limit ? 0L : RETRY_AFTER_MS;
+                });
+
+        RateLimitProperties properties = new RateLimitProperties(true, List.of(
+                new RateLimitProperties.Rule("login-username", "POST", "/api/auth/login",
+                        RateLimitKey.USERNAME, LIMIT, Duration.ofMinutes(5))));
+        RateLimitFilter filter = new RateLimitFilter(properties,
+                new SlidingWindowRateLimiter(redisTemplate, Clock.systemUTC()), new ObjectMapper());
+
+        mvc = MockMvcBuilders.standaloneSetup(new LoginStub()).addFilters(filter).build();
+    }
+
+    @Test
+    void rejects_with_retry_after_once_username_limit_is_exceeded() throws Exception {
+        for (int i = 0; i < LIMIT; i++) {
+            mvc.perform(login("alice")).andExpect(status().isOk()).andExpect(content().string("alice"));
+        }
+
+        mvc.perform(login("alice"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"));
+    }
+
+    @Test
+    void counts_each_username_separately() throws Exception {
+        for (int i = 0; i < LIMIT; i++) {
+            mvc.perform(login("alice")).andExpect(status().isOk());
+        }
+        mvc.perform(login(" ALICE ")).andExpect(status().isTooManyRequests());
+
+        mvc.perform(login("bob")).andExpect(status().isOk());
+    }
+
+    @Test
+    void chunked_body_is_still_keyed_by_username() throws Exception {
+        for (int i = 0; i < LIMIT; i++) {
+            mvc.perform(login("alice").with(chunked())).andExpect(status().isOk())
+                    .andExpect(content().string("alice"));
+        }
+
+        mvc.perform(login("alice").with(chunked())).andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void oversized_or_unreadable_body_is_rejected_before_the_controller() throws Exception {
+        String padded = "{\"username\":\"alice\",\"pad\":\"" + "x".repeat(20 * 1024) + "\"}";
+        mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(padded).with(chunked()))
+                .andExpect(status().isPayloadTooLarge());
+
+        mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content("not-json"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void allows_requests_when_redis_is_unavailable() throws Exception {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(redisTemplate).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+
+        for (int i = 0; i < LIMIT + 2; i++) {
+            mvc.perform(login("alice")).andExpect(status().isOk());
+        }
+    }
+
+    private static MockHttpServletRequestBuilder login(String username) {
+        return post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"password\":\"pw\"}");
+    }
+
+    // Content-Length 없이 들어오는 요청 (Transfer-Encoding: chunked)
+    private static RequestPostProcessor chunked() {
+        return request -> {
+            MockHttpServletRequest chunked = new MockHttpServletRequest(
+                    request.getServletContext(), request.getMethod(), request.getRequestURI()) {
+                @Override
+                public int getContentLength() {
+                    return -1;
+                }
+
+                @Override
+                public long getContentLengthLong() {
+                    return -1;
+                }
+            };
+            chunked.setContent(request.getContentAsByteArray());
+            chunked.setContentType(request.getContentType());
+            chunked.setPathInfo(request.getPathInfo());
+            chunked.addHeader(HttpHeaders.TRANSFER_ENCODING, "chunked");
+            return chunked;
+        };
+    }
+}
@@ -12,7 +12,7 @@ class JwtAuthenticationFilterShouldNotFilterTest {
 
     @Test
     void should_skip_login_and_refresh() throws ServletException, IOException {
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(null);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(null, null);
 
         MockHttpServletRequest loginReq = new MockHttpServletRequest("POST", "/api/auth/login");
         MockHttpServletRequest refreshReq = new MockHttpServletRequest("POST", "/api/auth/refresh");
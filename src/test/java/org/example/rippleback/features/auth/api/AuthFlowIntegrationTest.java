@@ -27,6 +27,7 @@ import org.testcontainers.utility.DockerImageName;
 import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -53,6 +54,8 @@ class AuthFlowIntegrationTest {
         r.add("jwt.secret", () -> "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef");
         r.add("jwt.access-token-expiration", () -> 60_000);
         r.add("jwt.refresh-token-expiration", () -> 3_600_000);
+        // 재사용 감지를 바로 확인하기 위해 동시 갱신 grace 를 끔
+        r.add("app.auth.refresh-grace", () -> "0s");
     }
 
     @Autowired MockMvc mvc;
@@ -118,6 +121,13 @@ class AuthFlowIntegrationTest {
         JsonNode reuseJson = om.readTree(reuseRes);
         assertThat(reuseJson.get("code").asText()).isEqualTo("1108");
 
+        // 재사용 감지 시 토큰 버전이 올라가 이미 발급된 AT 도 거부됨
+        var revokedRes = mvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + newAt))
+                .andExpect(status().isUnauthorized())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(om.readTree(revokedRes).get("code").asText()).isEqualTo("1109");
+
         var deviceMismatchRes = mvc.perform(post("/api/auth/refresh")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("""
@@ -128,8 +138,19 @@ class AuthFlowIntegrationTest {
         JsonNode deviceMismatchJson = om.readTree(deviceMismatchRes);
         assertThat(deviceMismatchJson.get("code").asText()).isEqualTo("1105");
 
+        var reloginRes = mvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"u1@ripple.dev","password":"password1!","deviceId":"device-A"}
+                                """))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode reloginJson = om.readTree(reloginRes);
+        String reloginAt = reloginJson.get("accessToken").asText();
+        String reloginRt = reloginJson.get("refreshToken").asText();
+
         mvc.perform(post("/api/auth/logout")
-                        .header("Authorization", "Bearer " + newAt)
+                        .header("Authorization", "Bearer " + reloginAt)
                         .header("X-Device-Id", deviceA))
                 .andExpect(status().isNoContent());
 
@@ -137,7 +158,7 @@ class AuthFlowIntegrationTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("""
                                 {"refreshToken":"%s","deviceId":"device-A"}
-                                """.formatted(newRt)))
+                                """.formatted(reloginRt)))
                 .andExpect(status().isUnauthorized())
                 .andReturn().getResponse().getContentAsString();
         JsonNode afterLogoutJson = om.readTree(afterLogoutRes);
@@ -0,0 +1,82 @@
+package org.example.rippleback.features.feed.app;
+
+import org.example.rippleback.features.feed.infra.FeedTagRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TagPrefixIndexTest {
+
+    @Test
+    void search_returns_prefix_matches_ordered_by_usage() {
+        TagPrefixIndex index = new TagPrefixIndex(null);
+        index.load(Map.of("spring", 5L, "springboot", 12L, "spa", 3L, "java", 40L));
+
+        assertThat(index.search("spr", 10)).containsExactly("springboot", "spring");
+        assertThat(index.search("SP", 10)).containsExactly("springboot", "spring", "spa");
+        assertThat(index.search("sp", 1)).containsExactly("springboot");
+        assertThat(index.search("kotlin", 10)).isEmpty();
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void recorded_usage_is_visible_before_next_rebuild() {
+        TagPrefixIndex index = new TagPrefixIndex(null);
+        index.load(Map.of("spring", 5L));
+
+        index.recordUsage("spa");
+        for (int i = 0; i < 6; i++) index.recordUsage("spring");
+
+        assertThat(index.search("sp", 10)).containsExactly("spring", "spa");
+        assertThat(index.search("spa", 10)).containsExactly("spa");
+    }
+
+    @Test
+    void short_prefix_uses_precomputed_top_k() {
+        Map<String, Long> usage = new HashMap<>();
+        for (int i = 0; i < 100; i++) usage.put("t" + String.format("%03d", i), (long) i);
+        TagPrefixIndex index = new TagPrefixIndex(null);
+        index.load(usage);
+
+        assertThat(index.search("t", 100))
+                .hasSize(TagPrefixIndex.MAX_LIMIT)
+                .startsWith("t099", "t098");
+    }
+
+    @Test
+    void usage_recorded_while_rebuild_query_runs_is_kept() {
+        FeedTagRepository repository = mock(FeedTagRepository.class);
+        TagPrefixIndex index = new TagPrefixIndex(repository);
+        index.load(Map.of("spring", 5L));
+        index.recordUsage("spa"); // 재빌드 쿼리 전 증가분 -> 쿼리 결과에 포함
+
+        when(repository.findAllUsage()).thenAnswer(inv -> {
+            // 쿼리가 도는 동안 기록된 증가분 -> 쿼리 결과에 없음
+            index.recordUsage("spot");
+            return List.of(usage("spring", 5L), usage("spa", 1L));
+        });
+        index.rebuild();
+
+        assertThat(index.search("sp", 10)).containsExactly("spring", "spa", "spot");
+    }
+
+    private static FeedTagRepository.TagUsage usage(String name, long usage) {
+        return new FeedTagRepository.TagUsage() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public long getUsage() {
+                return usage;
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.rippleback.features.media.app;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MediaUrlResolverTest {
+
+    private static final String BASE = "https://cdn.ripple.dev";
+
+    private final MediaUrlResolver resolver = new MediaUrlResolver(BASE + "/");
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "images/profile/42/avatar.jpg",
+            "videos/feed/1024/hls/index.m3u8",
+            "a",
+            "/images/leading.jpg",
+            "images/trailing/",
+            "images//double.jpg",
+            "images/공백 있는 파일.jpg"
+    })
+    void matches_uri_components_builder_output(String key) {
+        assertThat(resolver.toPublicUrl(key)).isEqualTo(legacy(key));
+        // 캐시된 결과도 동일
+        assertThat(resolver.toPublicUrl(key)).isEqualTo(legacy(key));
+    }
+
+    @Test
+    void base_with_path_is_kept() {
+        MediaUrlResolver withPath = new MediaUrlResolver("https://cdn.ripple.dev/media//");
+
+        assertThat(withPath.toPublicUrl("images/a.jpg")).isEqualTo("https://cdn.ripple.dev/media/images/a.jpg");
+    }
+
+    @Test
+    void plain_key_detection() {
+        assertThat(MediaUrlResolver.isPlainKey("images/a-b_c.d/1.jpg")).isTrue();
+        assertThat(MediaUrlResolver.isPlainKey("images//a.jpg")).isFalse();
+        assertThat(MediaUrlResolver.isPlainKey("/images/a.jpg")).isFalse();
+        assertThat(MediaUrlResolver.isPlainKey("images/a.jpg/")).isFalse();
+        assertThat(MediaUrlResolver.isPlainKey("images/a b.jpg")).isFalse();
+    }
+
+    @Test
+    void video_thumb_is_zero_padded() {
+        assertThat(resolver.videoThumbUrl("videos/1", 7)).isEqualTo(BASE + "/videos/1/thumb/0007.jpg");
+        assertThat(resolver.videoThumbUrl("videos/1", 42)).isEqualTo(BASE + "/videos/1/thumb/0042.jpg");
+        assertThat(resolver.videoThumbUrl("videos/1", 123)).isEqualTo(BASE + "/videos/1/thumb/0123.jpg");
+        assertThat(resolver.videoThumbUrl("videos/1", 12345)).isEqualTo(BASE + "/videos/1/thumb/12345.jpg");
+        assertThat(resolver.videoThumbUrl("videos/1", -3)).isEqualTo(BASE + "/videos/1/thumb/0000.jpg");
+    }
+
+    @Test
+    void blank_key_returns_null() {
+        assertThat(resolver.toPublicUrl(null)).isNull();
+        assertThat(resolver.toPublicUrl(" ")).isNull();
+    }
+
+    private static String legacy(String key) {
+        return UriComponentsBuilder.fromHttpUrl(BASE)
+                .path("/")
+                .pathSegment(key.split("/"))
+                .build()
+                .toUriString();
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.rippleback.infra.counter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CounterBufferTest {
+
+    @Test
+    void drain_moves_pending_to_in_flight_until_complete() {
+        CounterBuffer buffer = new CounterBuffer();
+        buffer.increment(CounterType.FEED_LIKE, 1L);
+        buffer.increment(CounterType.FEED_LIKE, 1L);
+        buffer.decrement(CounterType.FEED_BOOKMARK, 2L);
+
+        assertThat(buffer.overlay(CounterType.FEED_LIKE, 1L, 10)).isEqualTo(12);
+
+        Map<CounterBuffer.Key, Long> batch = buffer.drain();
+        assertThat(batch)
+                .containsEntry(new CounterBuffer.Key(CounterType.FEED_LIKE, 1L), 2L)
+                .containsEntry(new CounterBuffer.Key(CounterType.FEED_BOOKMARK, 2L), -1L);
+
+        // 반영 중에도 조회 값은 유지
+        assertThat(buffer.pending(CounterType.FEED_LIKE, 1L)).isEqualTo(2L);
+
+        buffer.complete(batch);
+        assertThat(buffer.pending(CounterType.FEED_LIKE, 1L)).isZero();
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    void restore_keeps_deltas_for_next_drain() {
+        CounterBuffer buffer = new CounterBuffer();
+        buffer.add(CounterType.COMMENT_LIKE, 7L, 3);
+
+        Map<CounterBuffer.Key, Long> failed = buffer.drain();
+        buffer.restore(failed);
+
+        assertThat(buffer.pending(CounterType.COMMENT_LIKE, 7L)).isEqualTo(3L);
+        assertThat(buffer.drain()).containsEntry(new CounterBuffer.Key(CounterType.COMMENT_LIKE, 7L), 3L);
+    }
+
+    @Test
+    void overlay_never_goes_below_zero() {
+        CounterBuffer buffer = new CounterBuffer();
+        buffer.add(CounterType.FEED_LIKE, 1L, -5);
+
+        assertThat(buffer.overlay(CounterType.FEED_LIKE, 1L, 2)).isZero();
+    }
+
+    @Test
+    void concurrent_increments_are_not_lost_across_drains() throws InterruptedException {
+        CounterBuffer buffer = new CounterBuffer();
+        int threads = 8;
+        int perThread = 20_000;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < perThread; i++) buffer.increment(CounterType.FEED_VIEW, i % 4);
+            });
+        }
+
+        long total = 0;
+        while (!pool.isTerminated()) {
+            total += drainAndComplete(buffer);
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.MILLISECONDS);
+        }
+        // 마지막 drain 으로 남은 값과 유휴 처리된 adder 까지 회수
+        total += drainAndComplete(buffer);
+        total += drainAndComplete(buffer);
+
+        assertThat(total).isEqualTo((long) threads * perThread);
+    }
+
+    private long drainAndComplete(CounterBuffer buffer) {
+        Map<CounterBuffer.Key, Long> batch = buffer.drain();
+        buffer.complete(batch);
+        return batch.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
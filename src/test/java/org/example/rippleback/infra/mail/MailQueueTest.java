@@ -0,0 +1,176 @@
+package org.example.rippleback.infra.mail;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redis.testcontainers.RedisContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+class MailQueueTest {
+
+    @Container
+    static RedisContainer redis = new RedisContainer(DockerImageName.parse("redis:7-alpine"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<OutgoingMail> sent = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean smtpDown = new AtomicBoolean();
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    // SMTP 대신: smtpDown 이면 전부 실패로 돌려줌
+    private final EmailSender stubSender = new EmailSender() {
+        @Override
+        public void send(String to, String subject, String text) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<OutgoingMail> sendAll(List<OutgoingMail> mails) {
+            if (smtpDown.get()) return mails;
+            sent.addAll(mails);
+            return List.of();
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getFirstMappedPort());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute(c -> {
+            c.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void backoff_doubles_from_base_up_to_ten_minutes() {
+        MailQueue queue = newQueue("n1", Duration.ofSeconds(5), 5);
+
+        assertThat(queue.backoff(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(queue.backoff(2)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(queue.backoff(4)).isEqualTo(Duration.ofSeconds(40));
+        assertThat(queue.backoff(30)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    void sends_queued_mail_in_the_background() throws Exception {
+        MailQueue queue = newQueue("n1", Duration.ZERO, 3);
+        queue.start();
+        try {
+            queue.enqueue("a@ripple.dev", "subject", "body");
+
+            await(() -> sent.size() == 1);
+            assertThat(sent.get(0).to()).isEqualTo("a@ripple.dev");
+            await(() -> redisTemplate.opsForList().size("mail:processing:n1") == 0);
+        } finally {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void failing_mail_is_retried_then_dead_lettered() throws Exception {
+        smtpDown.set(true);
+        MailQueue queue = newQueue("n1", Duration.ZERO, 3);
+        queue.start();
+        try {
+            queue.enqueue("a@ripple.dev", "subject", "body");
+
+            // 스케줄러 대신 재시도 승격을 직접 돌림
+            await(() -> {
+                queue.promoteDueRetries();
+                return redisTemplate.opsForList().size("mail:dlq") == 1;
+            });
+            OutgoingMail dead = objectMapper.readValue(redisTemplate.opsForList().index("mail:dlq", 0), OutgoingMail.class);
+            assertThat(dead.attempts()).isEqualTo(3);
+            // 본문(인증 코드)은 남기지 않고, DLQ 는 만료가 걸려 있음
+            assertThat(dead.text()).isNull();
+            assertThat(redisTemplate.getExpire("mail:dlq")).isPositive();
+            assertThat(redisTemplate.opsForZSet().size("mail:retry")).isZero();
+            assertThat(sent).isEmpty();
+        } finally {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void mail_that_expires_before_next_attempt_is_dropped() throws Exception {
+        smtpDown.set(true);
+        MailQueue queue = newQueue("n1", Duration.ofSeconds(5), 3);
+        queue.start();
+        try {
+            queue.enqueue("a@ripple.dev", "subject", "code", Duration.ofSeconds(1));
+
+            // queue -> processing 은 원자적으로 옮겨지므로 둘 다 비면 dispatch 가 끝난 것
+            await(() -> redisTemplate.opsForList().size("mail:queue") == 0
+                    && redisTemplate.opsForList().size("mail:processing:n1") == 0);
+            assertThat(redisTemplate.opsForZSet().size("mail:retry")).isZero();
+            assertThat(redisTemplate.hasKey("mail:dlq")).isFalse();
+            assertThat(sent).isEmpty();
+        } finally {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void processing_list_of_expired_node_is_reclaimed_by_another_node() throws Exception {
+        String inFlight = objectMapper.writeValueAsString(new OutgoingMail("m1", "a@ripple.dev", "s", "t", 0, 0));
+        redisTemplate.opsForList().leftPush("mail:processing:dead", inFlight);
+        redisTemplate.opsForSet().add("mail:nodes", "dead", "alive");
+        redisTemplate.opsForList().leftPush("mail:processing:alive", "in-flight-elsewhere");
+        redisTemplate.opsForValue().set("mail:lease:alive", "1", Duration.ofMinutes(1));
+
+        newQueue("n1", Duration.ZERO, 3).reclaimExpired();
+
+        assertThat(redisTemplate.opsForList().range("mail:queue", 0, -1)).containsExactly(inFlight);
+        assertThat(redisTemplate.hasKey("mail:processing:dead")).isFalse();
+        assertThat(redisTemplate.opsForSet().members("mail:nodes")).containsExactly("alive");
+        // lease 가 살아 있는 노드는 건드리지 않음
+        assertThat(redisTemplate.opsForList().size("mail:processing:alive")).isEqualTo(1);
+    }
+
+    private MailQueue newQueue(String nodeId, Duration baseBackoff, int maxAttempts) {
+        MailQueue queue = new MailQueue(redisTemplate, stubSender, objectMapper, Clock.systemUTC());
+        ReflectionTestUtils.setField(queue, "nodeId", nodeId);
+        ReflectionTestUtils.setField(queue, "workerCount", 1);
+        ReflectionTestUtils.setField(queue, "batchSize", 10);
+        ReflectionTestUtils.setField(queue, "maxAttempts", maxAttempts);
+        ReflectionTestUtils.setField(queue, "baseBackoff", baseBackoff);
+        ReflectionTestUtils.setField(queue, "pollTimeout", Duration.ofMillis(200));
+        ReflectionTestUtils.setField(queue, "lease", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(queue, "dlqMaxSize", 100);
+        ReflectionTestUtils.setField(queue, "dlqTtl", Duration.ofDays(7));
+        return queue;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 10s").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
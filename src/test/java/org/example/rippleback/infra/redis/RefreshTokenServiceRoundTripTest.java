@@ -0,0 +1,105 @@
+package org.example.rippleback.infra.redis;
+
+import com.redis.testcontainers.RedisContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RefreshTokenService 경로별 Redis 명령 수 (INFO commandstats)
+ * - 앱 컨텍스트 없이 전용 컨테이너를 써서 다른 빈의 명령이 섞이지 않게 함
+ * - 스크립트 안에서 실행된 명령도 commandstats 에 잡히므로, round trip 은 evalsha 호출 수로 봄
+ */
+@Testcontainers
+class RefreshTokenServiceRoundTripTest {
+
+    @Container
+    static RedisContainer redis = new RedisContainer(DockerImageName.parse("redis:7-alpine"));
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getFirstMappedPort());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        service = new RefreshTokenService(redisTemplate);
+
+        // 스크립트 캐시 적재 (첫 호출은 NOSCRIPT 후 EVAL 로 한 번 더 감)
+        service.store(0L, "warmup", "jti", "hash", 30000);
+        service.get(0L, "warmup");
+        service.deleteAll(0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void delete_all_is_one_round_trip_regardless_of_device_count() {
+        for (int i = 0; i < 5; i++) {
+            service.store(1L, "d" + i, "jti-" + i, "hash-" + i, 30000);
+        }
+        resetStats();
+
+        service.deleteAll(1L);
+
+        // 이전: SMEMBERS 1 + 디바이스마다 DEL 1 + 목록 DEL 1 = 7 round trip
+        Map<String, Long> calls = commandCalls();
+        assertThat(calls).containsEntry("evalsha", 1L)
+                .containsEntry("smembers", 1L)
+                .containsEntry("del", 1L);
+        assertThat(calls).doesNotContainKeys("eval", "srem");
+        assertThat(redisTemplate.keys("rt:1:*")).isEmpty();
+    }
+
+    @Test
+    void store_and_get_are_one_round_trip_each() {
+        resetStats();
+        service.store(2L, "d1", "jti-1", "hash-1", 30000);
+        // HSET/PEXPIRE/SADD/PTTL 은 스크립트 안에서 실행
+        assertThat(commandCalls()).containsEntry("evalsha", 1L).containsEntry("hset", 1L);
+
+        resetStats();
+        assertThat(service.get(2L, "d1")).isPresent();
+        // 이전: HGET jti + HGET hash = 2 round trip
+        assertThat(commandCalls()).containsEntry("hmget", 1L).doesNotContainKey("hget");
+    }
+
+    private void resetStats() {
+        redisTemplate.execute((RedisCallback<Void>) c -> {
+            c.serverCommands().resetConfigStats();
+            return null;
+        });
+    }
+
+    // cmdstat_{command}:calls=N,usec=... -> {command: N}
+    private Map<String, Long> commandCalls() {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>) c -> c.serverCommands().info("commandstats"));
+        Map<String, Long> calls = new HashMap<>();
+        if (info == null) return calls;
+        for (String name : info.stringPropertyNames()) {
+            if (!name.startsWith("cmdstat_")) continue;
+            String stats = info.getProperty(name);
+            String first = stats.substring(0, stats.indexOf(','));
+            calls.put(name.substring("cmdstat_".length()), Long.parseLong(first.substring("calls=".length())));
+        }
+        return calls;
+    }
+}
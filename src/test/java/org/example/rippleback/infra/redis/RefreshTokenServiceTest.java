@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -13,6 +14,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -33,6 +35,9 @@ class RefreshTokenServiceTest {
     @Autowired
     RefreshTokenService service;
 
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
     @Test
     void store_get_delete_per_device() {
         Long uid = 10L;
@@ -54,9 +59,64 @@ class RefreshTokenServiceTest {
     }
 
     @Test
-    void reuse_mark_and_check() {
-        service.markUsed("jti-x", 2000);
-        boolean used = service.isUsed("jti-x");
-        assertThat(used).isTrue();
+    void store_sets_ttl_on_entry_and_device_set() {
+        Long uid = 20L;
+        service.store(uid, "d1", "jti-1", "hash-1", 30000);
+        service.store(uid, "d2", "jti-2", "hash-2", 60000);
+
+        Long entryTtl = redisTemplate.getExpire("rt:20:d1", TimeUnit.MILLISECONDS);
+        Long devicesTtl = redisTemplate.getExpire("rtdev:20", TimeUnit.MILLISECONDS);
+        assertThat(entryTtl).isBetween(1L, 30000L);
+        // 디바이스 목록은 가장 늦게 만료되는 RT 기준
+        assertThat(devicesTtl).isGreaterThan(30000L);
+        assertThat(redisTemplate.opsForSet().members("rtdev:20")).containsExactlyInAnyOrder("d1", "d2");
+    }
+
+    @Test
+    void delete_all_removes_every_device_entry() {
+        Long uid = 30L;
+        service.store(uid, "d1", "jti-1", "hash-1", 30000);
+        service.store(uid, "d2", "jti-2", "hash-2", 30000);
+        service.store(uid, "d3", "jti-3", "hash-3", 30000);
+
+        service.deleteAll(uid);
+
+        assertThat(redisTemplate.hasKey("rt:30:d1")).isFalse();
+        assertThat(redisTemplate.hasKey("rt:30:d2")).isFalse();
+        assertThat(redisTemplate.hasKey("rt:30:d3")).isFalse();
+        assertThat(redisTemplate.hasKey("rtdev:30")).isFalse();
+
+        // 없는 유저도 오류 없이 통과
+        service.deleteAll(31L);
+    }
+
+    @Test
+    void rotate_validates_and_replaces_entry_atomically() {
+        Long uid = 40L;
+        service.store(uid, "d1", "jti-1", "hash-1", 30000);
+
+        assertThat(service.rotate(uid, "d1", "jti-1", "wrong", 30000, "jti-2", "hash-2", 30000))
+                .isEqualTo(RefreshTokenService.RotateResult.MISMATCH);
+        // 불일치면 저장된 RT 도 삭제
+        assertThat(service.get(uid, "d1")).isEmpty();
+
+        service.store(uid, "d1", "jti-1", "hash-1", 30000);
+        assertThat(service.rotate(uid, "d1", "jti-1", "hash-1", 30000, "jti-2", "hash-2", 30000))
+                .isEqualTo(RefreshTokenService.RotateResult.OK);
+        assertThat(service.get(uid, "d1")).contains(new RefreshTokenService.RefreshEntry("jti-2", "hash-2"));
+        assertThat(redisTemplate.hasKey("rjti:jti-1")).isTrue();
+
+        // 회전 직후 같은 RT 로 들어온 요청은 재사용이 아닌 동시 요청
+        assertThat(service.rotate(uid, "d1", "jti-1", "hash-1", 30000, "jti-3", "hash-3", 30000))
+                .isEqualTo(RefreshTokenService.RotateResult.RACE);
+        assertThat(service.get(uid, "d1")).contains(new RefreshTokenService.RefreshEntry("jti-2", "hash-2"));
+
+        // grace 가 지나면 재사용
+        redisTemplate.delete("rjtig:jti-1");
+        assertThat(service.rotate(uid, "d1", "jti-1", "hash-1", 30000, "jti-3", "hash-3", 30000))
+                .isEqualTo(RefreshTokenService.RotateResult.REUSED);
+
+        assertThat(service.rotate(uid, "d9", "jti-9", "hash-9", 30000, "jti-10", "hash-10", 30000))
+                .isEqualTo(RefreshTokenService.RotateResult.NOT_FOUND);
     }
 }